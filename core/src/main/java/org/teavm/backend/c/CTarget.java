@@ -122,6 +122,7 @@ import org.teavm.model.lowlevel.ShadowStackTransformer;
 import org.teavm.model.lowlevel.WriteBarrierInsertion;
 import org.teavm.model.optimization.InliningFilterFactory;
 import org.teavm.model.transformation.BoundCheckInsertion;
+import org.teavm.model.transformation.ClassInitializerConstantFolding;
 import org.teavm.model.transformation.ClassPatch;
 import org.teavm.model.transformation.NullCheckInsertion;
 import org.teavm.model.util.AsyncMethodFinder;
@@ -176,6 +177,7 @@ public class CTarget implements TeaVMTarget, TeaVMCHost {
     private boolean longjmpUsed = true;
     private boolean heapDump;
     private boolean obfuscated;
+    private boolean preciseStackTraces = true;
     private List<CallSiteDescriptor> callSites = new ArrayList<>();
 
     public CTarget(NameProvider nameProvider) {
@@ -214,10 +216,15 @@ public class CTarget implements TeaVMTarget, TeaVMCHost {
         this.obfuscated = obfuscated;
     }
 
+    public void setPreciseStackTraces(boolean preciseStackTraces) {
+        this.preciseStackTraces = preciseStackTraces;
+    }
+
     @Override
     public List<ClassHolderTransformer> getTransformers() {
         List<ClassHolderTransformer> transformers = new ArrayList<>();
         transformers.add(new ClassPatch());
+        transformers.add(new ClassInitializerConstantFolding());
         transformers.add(new CDependencyListener());
         transformers.add(new WeakReferenceTransformation());
         return transformers;
@@ -404,7 +411,7 @@ public class CTarget implements TeaVMTarget, TeaVMCHost {
                 controller.getDependencyInfo(), stringPool, nameProvider, controller.getDiagnostics(), classes,
                 intrinsics, generators, asyncMethods::contains, buildTarget,
                 controller.getClassInitializerInfo(), incremental, longjmpUsed,
-                vmAssertions, vmAssertions || heapDump, obfuscated);
+                vmAssertions, vmAssertions || heapDump, obfuscated, preciseStackTraces);
 
         BufferedCodeWriter specialWriter = new BufferedCodeWriter(false);
         BufferedCodeWriter configHeaderWriter = new BufferedCodeWriter(false);
@@ -107,6 +107,7 @@ import org.teavm.runtime.ExceptionHandling;
 import org.teavm.runtime.RuntimeArray;
 import org.teavm.runtime.RuntimeClass;
 import org.teavm.runtime.RuntimeObject;
+import org.teavm.runtime.ShadowStack;
 
 public class CodeGenerationVisitor implements ExprVisitor, StatementVisitor {
     public static final MethodReference ALLOC_METHOD = new MethodReference(Allocator.class,
@@ -125,6 +126,8 @@ public class CodeGenerationVisitor implements ExprVisitor, StatementVisitor {
             Object.class, void.class);
     private static final MethodReference MONITOR_EXIT_SYNC = new MethodReference(Object.class, "monitorExitSync",
             Object.class, void.class);
+    private static final MethodReference ALLOC_STACK = new MethodReference(ShadowStack.class, "allocStack",
+            int.class, void.class);
     private static final MethodReference CATCH_EXCEPTION = new MethodReference(ExceptionHandling.class,
             "catchException", Throwable.class);
 
@@ -146,6 +149,7 @@ public class CodeGenerationVisitor implements ExprVisitor, StatementVisitor {
     private List<CallSiteDescriptor> callSites;
     private List<ExceptionHandlerDescriptor> handlers = new ArrayList<>();
     private boolean managed;
+    private boolean methodLevelCallSite;
     private IdentifiedStatement defaultBreakTarget;
     private IdentifiedStatement defaultContinueTarget;
     private ObjectIntMap<IdentifiedStatement> labelMap = new ObjectIntHashMap<>();
@@ -185,6 +189,10 @@ public class CodeGenerationVisitor implements ExprVisitor, StatementVisitor {
         return spilledVariables;
     }
 
+    public void setMethodLevelCallSite(boolean methodLevelCallSite) {
+        this.methodLevelCallSite = methodLevelCallSite;
+    }
+
     public void setCallingMethod(MethodReference callingMethod) {
         this.callingMethod = callingMethod;
         this.managed = context.getCharacteristics().isManaged(callingMethod);
@@ -467,7 +475,7 @@ public class CodeGenerationVisitor implements ExprVisitor, StatementVisitor {
     }
 
     private boolean needsCallSiteId() {
-        return context.isLongjmp() && managed;
+        return context.isLongjmp() && managed && !methodLevelCallSite;
     }
 
     @Override
@@ -541,6 +549,21 @@ public class CodeGenerationVisitor implements ExprVisitor, StatementVisitor {
         writer.print("TEAVM_WITH_CALL_SITE_ID(").print(String.valueOf(callSite.getId())).print(", ");
     }
 
+    private boolean isStackAllocation(Expr expr) {
+        return expr instanceof InvocationExpr && ((InvocationExpr) expr).getMethod().equals(ALLOC_STACK);
+    }
+
+    private void registerMethodLevelCallSite() {
+        if (!methodLevelCallSite || !context.isLongjmp() || !managed) {
+            return;
+        }
+        CallSiteLocation[] callSiteLocations = CallSiteLocation.fromTextLocation(null, callingMethod);
+        CallSiteDescriptor callSite = new CallSiteDescriptor(callSites.size(), callSiteLocations);
+        callSites.add(callSite);
+
+        writer.println("TEAVM_CALL_SITE(" + callSite.getId() + ");");
+    }
+
     private void generateCallToConstructor(MethodReference reference, List<? extends Expr> arguments) {
         String receiver = allocTemporaryVariable(CVariableType.PTR);
         writer.print("(" + receiver + " = ");
@@ -1134,6 +1157,10 @@ public class CodeGenerationVisitor implements ExprVisitor, StatementVisitor {
         statement.getRightValue().acceptVisitor(this);
         writer.println(";");
 
+        if (statement.getLeftValue() == null && isStackAllocation(statement.getRightValue())) {
+            registerMethodLevelCallSite();
+        }
+
         if (volatileDefinitions.shouldBackup(statement)) {
             VariableExpr lhs = (VariableExpr) statement.getLeftValue();
             spilledVariables.add(lhs.getIndex());
@@ -18,7 +18,10 @@ package org.teavm.backend.c.generate;
 import com.carrotsearch.hppc.IntContainer;
 import java.util.List;
 import org.teavm.ast.MethodNode;
+import org.teavm.ast.RecursiveVisitor;
 import org.teavm.ast.RegularMethodNode;
+import org.teavm.ast.Statement;
+import org.teavm.ast.TryCatchStatement;
 import org.teavm.ast.VariableNode;
 import org.teavm.backend.c.analyze.VolatileDefinitionFinder;
 import org.teavm.backend.lowlevel.generate.NameProvider;
@@ -72,10 +75,23 @@ public class CodeGenerator {
                 volatileDefinitions);
         visitor.setAsync(context.isAsync(methodNode.getReference()));
         visitor.setCallingMethod(methodNode.getReference());
+        visitor.setMethodLevelCallSite(!context.isPreciseStackTraces() && !hasExceptionHandlers(methodNode.getBody()));
         methodNode.getBody().acceptVisitor(visitor);
         return visitor;
     }
 
+    private static boolean hasExceptionHandlers(Statement body) {
+        boolean[] result = new boolean[1];
+        body.acceptVisitor(new RecursiveVisitor() {
+            @Override
+            public void visit(TryCatchStatement statement) {
+                result[0] = true;
+                cancel();
+            }
+        });
+        return result[0];
+    }
+
     public static void generateMethodSignature(CodeWriter writer, NameProvider names,
             MethodReference methodRef, boolean isStatic, boolean withNames) {
         writer.printType(methodRef.getReturnType()).print(" ").print(names.forMethod(methodRef)).print("(");
@@ -51,13 +51,14 @@ public class GenerationContext {
     private boolean vmAssertions;
     private boolean heapDump;
     private boolean obfuscated;
+    private boolean preciseStackTraces;
 
     public GenerationContext(VirtualTableProvider virtualTableProvider, Characteristics characteristics,
             DependencyInfo dependencies, StringPool stringPool, NameProvider names, Diagnostics diagnostics,
             ClassReaderSource classSource, List<Intrinsic> intrinsics, List<Generator> generators,
             Predicate<MethodReference> asyncMethods, BuildTarget buildTarget,
             ClassInitializerInfo classInitializerInfo, boolean incremental, boolean longjmp, boolean vmAssertions,
-            boolean heapDump, boolean obfuscated) {
+            boolean heapDump, boolean obfuscated, boolean preciseStackTraces) {
         this.virtualTableProvider = virtualTableProvider;
         this.characteristics = characteristics;
         this.dependencies = dependencies;
@@ -75,6 +76,7 @@ public class GenerationContext {
         this.vmAssertions = vmAssertions;
         this.heapDump = heapDump;
         this.obfuscated = obfuscated;
+        this.preciseStackTraces = preciseStackTraces;
     }
 
     public void addIntrinsic(Intrinsic intrinsic) {
@@ -158,4 +160,8 @@ public class GenerationContext {
     public boolean isObfuscated() {
         return obfuscated;
     }
+
+    public boolean isPreciseStackTraces() {
+        return preciseStackTraces;
+    }
 }
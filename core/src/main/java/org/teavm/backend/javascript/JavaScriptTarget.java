@@ -24,10 +24,12 @@ import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -62,6 +64,10 @@ import org.teavm.cache.AstDependencyExtractor;
 import org.teavm.cache.CacheStatus;
 import org.teavm.cache.EmptyMethodNodeCache;
 import org.teavm.cache.MethodNodeCache;
+import org.teavm.callgraph.CallGraph;
+import org.teavm.callgraph.CallGraphNode;
+import org.teavm.callgraph.CallSite;
+import org.teavm.callgraph.FieldAccessSite;
 import org.teavm.debugging.information.DebugInformationEmitter;
 import org.teavm.debugging.information.DummyDebugInformationEmitter;
 import org.teavm.debugging.information.SourceLocation;
@@ -83,6 +89,7 @@ import org.teavm.model.ClassReaderSource;
 import org.teavm.model.ElementModifier;
 import org.teavm.model.FieldReference;
 import org.teavm.model.ListableClassHolderSource;
+import org.teavm.model.MethodDescriptor;
 import org.teavm.model.MethodHolder;
 import org.teavm.model.MethodReader;
 import org.teavm.model.MethodReference;
@@ -111,6 +118,7 @@ import org.teavm.vm.spi.TeaVMHostExtension;
 public class JavaScriptTarget implements TeaVMTarget, TeaVMJavaScriptHost {
     private static final NumberFormat STATS_NUM_FORMAT = new DecimalFormat("#,##0");
     private static final NumberFormat STATS_PERCENT_FORMAT = new DecimalFormat("0.000 %");
+    private static final MethodDescriptor CLINIT_METHOD = new MethodDescriptor("<clinit>", void.class);
     private static final MethodReference CURRENT_THREAD = new MethodReference(Thread.class,
             "currentThread", Thread.class);
 
@@ -130,6 +138,8 @@ public class JavaScriptTarget implements TeaVMTarget, TeaVMJavaScriptHost {
     private int topLevelNameLimit = 10000;
     private AstDependencyExtractor dependencyExtractor = new AstDependencyExtractor();
     private boolean strict;
+    private boolean longAsBigInt;
+    private boolean moduleOutput;
     private BoundCheckInsertion boundCheckInsertion = new BoundCheckInsertion();
     private NullCheckInsertion nullCheckInsertion = new NullCheckInsertion(NullCheckFilter.EMPTY);
 
@@ -206,6 +216,25 @@ public class JavaScriptTarget implements TeaVMTarget, TeaVMJavaScriptHost {
         this.strict = strict;
     }
 
+    /**
+     * Makes generated code represent Java {@code long} values as native JavaScript {@code BigInt}s
+     * instead of pairs of 32-bit integers. Requires an engine that supports {@code BigInt}
+     * and {@code BigInt64Array}. Since native {@code BigInt} division throws {@code RangeError} on zero
+     * divisor, long division in this mode throws {@link ArithmeticException} like the JVM does.
+     * JSO methods still can't take or return {@code long}, same as in default mode.
+     */
+    public void setLongAsBigInt(boolean longAsBigInt) {
+        this.longAsBigInt = longAsBigInt;
+    }
+
+    /**
+     * Makes TeaVM produce an ES2015 module that exports entry points instead of declaring them
+     * as global variables of a classic script.
+     */
+    public void setModuleOutput(boolean moduleOutput) {
+        this.moduleOutput = moduleOutput;
+    }
+
     @Override
     public boolean requiresRegisterAllocation() {
         return true;
@@ -273,6 +302,14 @@ public class JavaScriptTarget implements TeaVMTarget, TeaVMJavaScriptHost {
         exceptionCons.getVariable(1).propagate(stringType);
         exceptionCons.use();
 
+        if (longAsBigInt) {
+            exceptionCons = dependencyAnalyzer.linkMethod(new MethodReference(
+                    ArithmeticException.class, "<init>", String.class, void.class));
+            exceptionCons.getVariable(0).propagate(dependencyAnalyzer.getType(ArithmeticException.class.getName()));
+            exceptionCons.getVariable(1).propagate(stringType);
+            exceptionCons.use();
+        }
+
         if (strict) {
             exceptionCons = dependencyAnalyzer.linkMethod(new MethodReference(
                     ArrayIndexOutOfBoundsException.class, "<init>", void.class));
@@ -372,9 +409,11 @@ public class JavaScriptTarget implements TeaVMTarget, TeaVMJavaScriptHost {
                 controller.getDependencyInfo(), m -> isVirtual(virtualMethodContributorContext, m),
                 controller.getClassInitializerInfo());
         renderingContext.setMinifying(obfuscated);
+        renderingContext.setLongAsBigInt(longAsBigInt);
         Renderer renderer = new Renderer(sourceWriter, asyncMethods, asyncFamilyMethods,
                 controller.getDiagnostics(), renderingContext);
         RuntimeRenderer runtimeRenderer = new RuntimeRenderer(classes, sourceWriter);
+        runtimeRenderer.setLongAsBigInt(longAsBigInt);
         renderer.setProperties(controller.getProperties());
         renderer.setMinifying(obfuscated);
         renderer.setProgressConsumer(controller::reportProgress);
@@ -416,7 +455,9 @@ public class JavaScriptTarget implements TeaVMTarget, TeaVMJavaScriptHost {
             renderer.renderCompatibilityStubs();
 
             if (renderer.isLongLibraryUsed()) {
-                runtimeRenderer.renderHandWrittenRuntime("long.js");
+                if (!longAsBigInt) {
+                    runtimeRenderer.renderHandWrittenRuntime("long.js");
+                }
                 renderer.renderLongRuntimeAliases();
             }
             if (renderer.isThreadLibraryUsed()) {
@@ -456,6 +497,18 @@ public class JavaScriptTarget implements TeaVMTarget, TeaVMJavaScriptHost {
 
     private void printWrapperEnd(SourceWriter writer) throws IOException {
         writer.append("})();").newLine();
+        if (moduleOutput && !controller.getEntryPoints().isEmpty()) {
+            writer.append("export").ws().append("{").ws();
+            boolean first = true;
+            for (String key : controller.getEntryPoints().keySet()) {
+                if (!first) {
+                    writer.append(",").ws();
+                }
+                first = false;
+                writer.append(key);
+            }
+            writer.ws().append("};").newLine();
+        }
     }
 
     private void printStats(Renderer renderer, int totalSize) {
@@ -480,6 +533,76 @@ public class JavaScriptTarget implements TeaVMTarget, TeaVMJavaScriptHost {
             System.out.println("Package '" + packageName + "' size: "
                     + getSizeWithPercentage(packageSizeMap.get(packageName), totalSize));
         }
+
+        printEntryPointStats(renderer, totalSize);
+    }
+
+    private void printEntryPointStats(Renderer renderer, int totalSize) {
+        Map<? extends String, ? extends TeaVMEntryPoint> entryPoints = controller.getEntryPoints();
+        if (entryPoints.size() < 2) {
+            return;
+        }
+
+        CallGraph callGraph = controller.getDependencyInfo().getCallGraph();
+        Map<String, Set<String>> classesByEntryPoint = new HashMap<>();
+        ObjectIntMap<String> entryPointCountByClass = new ObjectIntHashMap<>();
+        for (Map.Entry<? extends String, ? extends TeaVMEntryPoint> entry : entryPoints.entrySet()) {
+            Set<String> classes = getReachableClasses(callGraph, entry.getValue().getMethod());
+            classesByEntryPoint.put(entry.getKey(), classes);
+            for (String className : classes) {
+                entryPointCountByClass.addTo(className, 1);
+            }
+        }
+
+        for (String entryPoint : entryPoints.keySet()) {
+            int size = 0;
+            for (String className : classesByEntryPoint.get(entryPoint)) {
+                if (entryPointCountByClass.get(className) == 1) {
+                    size += renderer.getClassSize(className);
+                }
+            }
+            System.out.println("Entry point '" + entryPoint + "' exclusive size: "
+                    + getSizeWithPercentage(size, totalSize));
+        }
+        System.out.println("Note: exclusive size only follows calls, field accesses and class initializers; "
+                + "classes reached solely via class literals, casts or metadata are counted as shared");
+    }
+
+    private static Set<String> getReachableClasses(CallGraph callGraph, MethodReference method) {
+        Set<MethodReference> visited = new HashSet<>();
+        Set<String> classes = new HashSet<>();
+        Deque<MethodReference> queue = new ArrayDeque<>();
+        visited.add(method);
+        queue.add(method);
+        while (!queue.isEmpty()) {
+            MethodReference current = queue.remove();
+            addReachableClass(current.getClassName(), classes, visited, queue);
+            CallGraphNode node = callGraph.getNode(current);
+            if (node == null) {
+                continue;
+            }
+            for (CallSite callSite : node.getCallSites()) {
+                for (CallGraphNode callee : callSite.getCalledMethods()) {
+                    if (visited.add(callee.getMethod())) {
+                        queue.add(callee.getMethod());
+                    }
+                }
+            }
+            for (FieldAccessSite fieldAccess : node.getFieldAccessSites()) {
+                addReachableClass(fieldAccess.getField().getClassName(), classes, visited, queue);
+            }
+        }
+        return classes;
+    }
+
+    private static void addReachableClass(String className, Set<String> classes, Set<MethodReference> visited,
+            Deque<MethodReference> queue) {
+        if (classes.add(className)) {
+            MethodReference initializer = new MethodReference(className, CLINIT_METHOD);
+            if (visited.add(initializer)) {
+                queue.add(initializer);
+            }
+        }
     }
 
     private String getSizeWithPercentage(int size, int totalSize) {
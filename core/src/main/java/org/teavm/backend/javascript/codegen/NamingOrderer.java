@@ -15,13 +15,17 @@
  */
 package org.teavm.backend.javascript.codegen;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.teavm.model.FieldReference;
 import org.teavm.model.MethodDescriptor;
 import org.teavm.model.MethodReference;
 
 public class NamingOrderer implements NameFrequencyConsumer {
-    private Map<String, Entry> entries = new HashMap<>();
+    private Map<String, Entry> entries = new LinkedHashMap<>();
 
     @Override
     public void consume(MethodReference method) {
@@ -110,6 +114,7 @@ public class NamingOrderer implements NameFrequencyConsumer {
 
     public void apply(NamingStrategy naming) {
         List<Entry> entryList = new ArrayList<>(entries.values());
+        // Sorting is stable, so names with equal frequency are assigned in order of first use
         Collections.sort(entryList, (o1, o2) -> Integer.compare(o2.frequency, o1.frequency));
         for (Entry entry : entryList) {
             entry.operation.perform(naming);
@@ -320,7 +320,7 @@ class NameFrequencyEstimator extends RecursiveVisitor implements MethodNodeVisit
                     break;
                 case FLOAT:
                 case DOUBLE:
-                    consumer.consumeFunction("Long_fromNUmber");
+                    consumer.consumeFunction("Long_fromNumber");
                     break;
             }
         }
@@ -49,18 +49,28 @@ public class RuntimeRenderer {
             "setStackTrace", StackTraceElement[].class, void.class);
     private static final MethodReference AIOOBE_INIT_METHOD = new MethodReference(ArrayIndexOutOfBoundsException.class,
             "<init>", void.class);
+    private static final MethodReference ARITHMETIC_EXCEPTION_INIT_METHOD = new MethodReference(
+            ArithmeticException.class, "<init>", String.class, void.class);
+
+    private static final int STRING_CHUNK_SIZE = 8192;
 
     private final ClassReaderSource classSource;
     private final SourceWriter writer;
+    private boolean longAsBigInt;
 
     public RuntimeRenderer(ClassReaderSource classSource, SourceWriter writer) {
         this.classSource = classSource;
         this.writer = writer;
     }
 
+    public void setLongAsBigInt(boolean longAsBigInt) {
+        this.longAsBigInt = longAsBigInt;
+    }
+
     public void renderRuntime() throws RenderingException {
         try {
             renderHandWrittenRuntime("runtime.js");
+            renderHandWrittenRuntime(longAsBigInt ? "bigIntLongRuntime.js" : "longRuntime.js");
             renderSetCloneMethod();
             renderRuntimeCls();
             renderRuntimeString();
@@ -73,6 +83,9 @@ public class RuntimeRenderer {
             renderCreateStackTraceElement();
             renderSetStackTrace();
             renderThrowAIOOBE();
+            if (longAsBigInt) {
+                renderThrowArithmeticException();
+            }
         } catch (IOException e) {
             throw new RenderingException("IO error", e);
         }
@@ -125,7 +138,7 @@ public class RuntimeRenderer {
         writer.append("var characters = $rt_createCharArray(str.length);").softNewLine();
         writer.append("var charsBuffer = characters.data;").softNewLine();
         writer.append("for (var i = 0; i < str.length; i = (i + 1) | 0) {").indent().softNewLine();
-        writer.append("charsBuffer[i] = str.charCodeAt(i) & 0xFFFF;").softNewLine();
+        writer.append("charsBuffer[i] = str.charCodeAt(i);").softNewLine();
         writer.outdent().append("}").softNewLine();
         writer.append("return ").appendInit(stringCons).append("(characters);").softNewLine();
         writer.outdent().append("}").newLine();
@@ -139,9 +152,14 @@ public class RuntimeRenderer {
         writer.outdent().append("}").softNewLine();
 
         writer.append("var data = str.").appendField(stringChars).append(".data;").softNewLine();
+        writer.append("if (data.length <= " + STRING_CHUNK_SIZE + ") {").indent().softNewLine();
+        writer.append("return String.fromCharCode.apply(null, data);").softNewLine();
+        writer.outdent().append("}").softNewLine();
         writer.append("var result = \"\";").softNewLine();
-        writer.append("for (var i = 0; i < data.length; i = (i + 1) | 0) {").indent().softNewLine();
-        writer.append("result += String.fromCharCode(data[i]);").softNewLine();
+        writer.append("for (var i = 0; i < data.length; i = (i + " + STRING_CHUNK_SIZE + ") | 0) {").indent()
+                .softNewLine();
+        writer.append("result += String.fromCharCode.apply(null, data.subarray(i, i + " + STRING_CHUNK_SIZE
+                + "));").softNewLine();
         writer.outdent().append("}").softNewLine();
         writer.append("return result;").softNewLine();
         writer.outdent().append("}").newLine();
@@ -267,4 +285,20 @@ public class RuntimeRenderer {
 
         writer.outdent().append("}").newLine();
     }
+
+    private void renderThrowArithmeticException() throws IOException {
+        writer.append("function $rt_throwArithmeticException()").ws().append("{").indent().softNewLine();
+
+        ClassReader cls = classSource.get(ARITHMETIC_EXCEPTION_INIT_METHOD.getClassName());
+        if (cls != null) {
+            MethodReader method = cls.getMethod(ARITHMETIC_EXCEPTION_INIT_METHOD.getDescriptor());
+            if (method != null && !method.hasModifier(ElementModifier.ABSTRACT)) {
+                writer.append("$rt_throw(").appendInit(ARITHMETIC_EXCEPTION_INIT_METHOD)
+                        .append("($rt_str(\"/ by zero\")));").softNewLine();
+            }
+        }
+        writer.append("throw new Error(\"Division by zero\");").softNewLine();
+
+        writer.outdent().append("}").newLine();
+    }
 }
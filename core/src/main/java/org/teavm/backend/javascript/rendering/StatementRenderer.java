@@ -105,6 +105,7 @@ public class StatementRenderer implements ExprVisitor, StatementVisitor {
     private List<String> blockIds = new ArrayList<>();
     private IntIndexedContainer blockIndexMap = new IntArrayList();
     private boolean longLibraryUsed;
+    private boolean longAsBigInt;
     private static final MethodDescriptor CLINIT_METHOD = new MethodDescriptor("<clinit>", ValueType.VOID);
 
     public StatementRenderer(RenderingContext context, SourceWriter writer) {
@@ -112,6 +113,7 @@ public class StatementRenderer implements ExprVisitor, StatementVisitor {
         this.writer = writer;
         this.classSource = context.getClassSource();
         this.minifying = context.isMinifying();
+        this.longAsBigInt = context.isLongAsBigInt();
         this.naming = context.getNaming();
         this.debugEmitter = context.getDebugEmitter();
         if (!minifying) {
@@ -662,6 +664,9 @@ public class StatementRenderer implements ExprVisitor, StatementVisitor {
 
     @Override
     public void visit(BinaryExpr expr) {
+        if (expr.getType() == OperationType.LONG && longAsBigInt && visitBigIntBinary(expr)) {
+            return;
+        }
         if (expr.getType() == OperationType.LONG) {
             longLibraryUsed = true;
             switch (expr.getOperation()) {
@@ -801,6 +806,40 @@ public class StatementRenderer implements ExprVisitor, StatementVisitor {
         }
     }
 
+    private boolean visitBigIntBinary(BinaryExpr expr) {
+        switch (expr.getOperation()) {
+            case EQUALS:
+                visitBinary(expr, "===", false);
+                return true;
+            case NOT_EQUALS:
+                visitBinary(expr, "!==", false);
+                return true;
+            case GREATER:
+                visitBinary(expr, ">", false);
+                return true;
+            case GREATER_OR_EQUALS:
+                visitBinary(expr, ">=", false);
+                return true;
+            case LESS:
+                visitBinary(expr, "<", false);
+                return true;
+            case LESS_OR_EQUALS:
+                visitBinary(expr, "<=", false);
+                return true;
+            case BITWISE_AND:
+                visitBinary(expr, "&", false);
+                return true;
+            case BITWISE_OR:
+                visitBinary(expr, "|", false);
+                return true;
+            case BITWISE_XOR:
+                visitBinary(expr, "^", false);
+                return true;
+            default:
+                return false;
+        }
+    }
+
     @Override
     public void visit(UnaryExpr expr) {
         try {
@@ -810,7 +849,7 @@ public class StatementRenderer implements ExprVisitor, StatementVisitor {
             Precedence outerPrecedence = precedence;
             switch (expr.getOperation()) {
                 case NOT: {
-                    if (expr.getType() == OperationType.LONG) {
+                    if (expr.getType() == OperationType.LONG && !longAsBigInt) {
                         longLibraryUsed = true;
                         writer.appendFunction("Long_not").append("(");
                         precedence = Precedence.min();
@@ -906,6 +945,26 @@ public class StatementRenderer implements ExprVisitor, StatementVisitor {
         expr.getValue().acceptVisitor(this);
     }
 
+    private void visitBigIntCast(PrimitiveCastExpr expr) throws IOException {
+        switch (expr.getTarget()) {
+            case INT:
+                writer.append("Number(BigInt.asIntN(32,").ws();
+                precedence = Precedence.min();
+                expr.getValue().acceptVisitor(this);
+                writer.append("))");
+                break;
+            case FLOAT:
+            case DOUBLE:
+                writer.append("Number(");
+                precedence = Precedence.min();
+                expr.getValue().acceptVisitor(this);
+                writer.append(')');
+                break;
+            default:
+                expr.getValue().acceptVisitor(this);
+        }
+    }
+
     @Override
     public void visit(PrimitiveCastExpr expr) {
         try {
@@ -914,7 +973,12 @@ public class StatementRenderer implements ExprVisitor, StatementVisitor {
             }
             switch (expr.getSource()) {
                 case INT:
-                    if (expr.getTarget() == OperationType.LONG) {
+                    if (expr.getTarget() == OperationType.LONG && longAsBigInt) {
+                        writer.append("BigInt(");
+                        precedence = Precedence.min();
+                        expr.getValue().acceptVisitor(this);
+                        writer.append(')');
+                    } else if (expr.getTarget() == OperationType.LONG) {
                         writer.appendFunction("Long_fromInt").append("(");
                         precedence = Precedence.min();
                         expr.getValue().acceptVisitor(this);
@@ -924,6 +988,10 @@ public class StatementRenderer implements ExprVisitor, StatementVisitor {
                     }
                     break;
                 case LONG:
+                    if (longAsBigInt) {
+                        visitBigIntCast(expr);
+                        break;
+                    }
                     switch (expr.getTarget()) {
                         case INT:
                             precedence = Precedence.MEMBER_ACCESS;
@@ -85,6 +85,7 @@ public final class WasmHeap {
         int newRegionsSize = calculateRegionsSize(newRegionsCount);
 
         Address newRegionsAddress = WasmRuntime.align(heapAddress.add(newHeapSize), 16);
+        // GC reads card table by 8-byte words, keep it aligned
         Address newCardTable = WasmRuntime.align(newRegionsAddress.add(newRegionsSize), 16);
         Address newStorageAddress = WasmRuntime.align(newCardTable.add(newRegionsCount), 16);
         Address newMemoryLimit = WasmRuntime.align(newStorageAddress.add(newStorageSize), PAGE_SIZE);
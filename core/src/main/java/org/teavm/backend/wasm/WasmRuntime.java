@@ -101,51 +101,29 @@ public final class WasmRuntime {
     }
 
     public static void fill(Address address, byte value, int count) {
-        int value4 = (value & 0xFF << 24) | (value & 0xFF << 16) | (value & 0xFF << 8) | (value & 0xFF);
         int start = address.toInt();
+        int end = start + count;
+        int alignedStart = (start + 7) >>> 3 << 3;
+        int alignedEnd = end >>> 3 << 3;
+        if (alignedStart >= alignedEnd) {
+            for (int i = start; i < end; ++i) {
+                Address.fromInt(i).putByte(value);
+            }
+            return;
+        }
 
-        int alignedStart = start >>> 2 << 2;
-        address = Address.fromInt(alignedStart);
-        switch (start - alignedStart) {
-            case 0:
-                address.putInt(value4);
-                break;
-            case 1:
-                address.add(1).putByte(value);
-                address.add(2).putByte(value);
-                address.add(3).putByte(value);
-                break;
-            case 2:
-                address.add(2).putByte(value);
-                address.add(3).putByte(value);
-                break;
-            case 3:
-                address.add(3).putByte(value);
-                break;
+        for (int i = start; i < alignedStart; ++i) {
+            Address.fromInt(i).putByte(value);
         }
 
-        int end = start + count;
-        int alignedEnd = end >>> 2 << 2;
-        address = Address.fromInt(alignedEnd);
-        switch (end - alignedEnd) {
-            case 0:
-                break;
-            case 1:
-                address.putByte(value);
-                break;
-            case 2:
-                address.putByte(value);
-                address.add(1).putByte(value);
-                break;
-            case 3:
-                address.putByte(value);
-                address.add(1).putByte(value);
-                address.add(2).putByte(value);
-                break;
+        // Replicate byte into all lanes of a 64-bit word, so that the main loop stores 8 bytes per iteration
+        long value8 = (value & 0xFFL) * 0x0101010101010101L;
+        for (int i = alignedStart; i < alignedEnd; i += 8) {
+            Address.fromInt(i).putLong(value8);
         }
 
-        for (address = Address.fromInt(alignedStart + 4); address.toInt() < alignedEnd; address = address.add(4)) {
-            address.putInt(value4);
+        for (int i = alignedEnd; i < end; ++i) {
+            Address.fromInt(i).putByte(value);
         }
     }
 
@@ -0,0 +1,44 @@
+/*
+ *  Copyright 2019 Alexey Andreev.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.teavm.backend.wasm;
+
+import org.teavm.interop.Address;
+import org.teavm.interop.Export;
+import org.teavm.runtime.GC;
+
+/**
+ * Entry points that let the host pass strings to a module in bulk, without calling to the module
+ * for each character. Unlike {@link WasmRuntime}, this class is managed, since it allocates objects.
+ */
+public final class WasmStrings {
+    private WasmStrings() {
+    }
+
+    /**
+     * Allocates string of given length for the host to fill its characters in place.
+     * The result is only valid until the next call into the module, since GC may move it.
+     */
+    @Export(name = "teavm_allocateString")
+    public static String allocateString(int length) {
+        // String(char[]) would copy characters to another array, so put array to string directly
+        char[] characters = new char[length];
+        String result = new String();
+        WasmRuntime.RuntimeString runtimeString = Address.ofObject(result).toStructure();
+        runtimeString.characters = characters;
+        GC.writeBarrier(runtimeString);
+        return result;
+    }
+}
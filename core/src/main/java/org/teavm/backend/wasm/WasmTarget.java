@@ -91,6 +91,8 @@ import org.teavm.backend.wasm.model.expression.WasmLoadInt32;
 import org.teavm.backend.wasm.model.expression.WasmReturn;
 import org.teavm.backend.wasm.model.expression.WasmSetLocal;
 import org.teavm.backend.wasm.model.expression.WasmStoreInt32;
+import org.teavm.backend.wasm.optimization.DuplicateFunctionElimination;
+import org.teavm.backend.wasm.optimization.FunctionIndexOrdering;
 import org.teavm.backend.wasm.optimization.UnusedFunctionElimination;
 import org.teavm.backend.wasm.render.WasmBinaryRenderer;
 import org.teavm.backend.wasm.render.WasmBinaryVersion;
@@ -146,6 +148,7 @@ import org.teavm.model.lowlevel.ShadowStackTransformer;
 import org.teavm.model.lowlevel.WriteBarrierInsertion;
 import org.teavm.model.optimization.InliningFilterFactory;
 import org.teavm.model.transformation.BoundCheckInsertion;
+import org.teavm.model.transformation.ClassInitializerConstantFolding;
 import org.teavm.model.transformation.ClassPatch;
 import org.teavm.model.transformation.NullCheckInsertion;
 import org.teavm.runtime.Allocator;
@@ -179,6 +182,7 @@ public class WasmTarget implements TeaVMTarget, TeaVMWasmHost {
     private ShadowStackTransformer shadowStackTransformer;
     private WriteBarrierInsertion writeBarrierInsertion;
     private WasmBinaryVersion version = WasmBinaryVersion.V_0x1;
+    private boolean bulkMemoryEnabled;
     private List<WasmIntrinsicFactory> additionalIntrinsics = new ArrayList<>();
     private NullCheckInsertion nullCheckInsertion;
     private BoundCheckInsertion boundCheckInsertion = new BoundCheckInsertion();
@@ -219,6 +223,7 @@ public class WasmTarget implements TeaVMTarget, TeaVMWasmHost {
     public List<ClassHolderTransformer> getTransformers() {
         List<ClassHolderTransformer> transformers = new ArrayList<>();
         transformers.add(new ClassPatch());
+        transformers.add(new ClassInitializerConstantFolding());
         transformers.add(new WasmDependencyListener());
         return transformers;
     }
@@ -266,6 +271,18 @@ public class WasmTarget implements TeaVMTarget, TeaVMWasmHost {
         this.version = version;
     }
 
+    public boolean isBulkMemoryEnabled() {
+        return bulkMemoryEnabled;
+    }
+
+    /**
+     * Allows to use instructions from bulk memory operations proposal, i.e. {@code memory.fill}
+     * and {@code memory.copy}, instead of calling to loops in {@code WasmRuntime}.
+     */
+    public void setBulkMemoryEnabled(boolean bulkMemoryEnabled) {
+        this.bulkMemoryEnabled = bulkMemoryEnabled;
+    }
+
     public void setMinHeapSize(int minHeapSize) {
         this.minHeapSize = minHeapSize;
     }
@@ -320,6 +337,8 @@ public class WasmTarget implements TeaVMTarget, TeaVMWasmHost {
                 int.class, void.class)).use();
         dependencyAnalyzer.linkMethod(new MethodReference(WasmRuntime.class, "printOutOfMemory",
                 void.class)).use();
+        dependencyAnalyzer.linkMethod(new MethodReference(WasmStrings.class, "allocateString",
+                int.class, String.class)).use();
 
         dependencyAnalyzer.linkMethod(INIT_HEAP_REF).use();
         dependencyAnalyzer.linkMethod(RESIZE_HEAP_REF).use();
@@ -395,7 +414,7 @@ public class WasmTarget implements TeaVMTarget, TeaVMWasmHost {
         context.addIntrinsic(new FunctionIntrinsic(classGenerator));
         WasmRuntimeIntrinsic wasmRuntimeIntrinsic = new WasmRuntimeIntrinsic();
         context.addIntrinsic(wasmRuntimeIntrinsic);
-        context.addIntrinsic(new AllocatorIntrinsic(classGenerator));
+        context.addIntrinsic(new AllocatorIntrinsic(classGenerator, bulkMemoryEnabled));
         context.addIntrinsic(new PlatformIntrinsic());
         context.addIntrinsic(new PlatformClassIntrinsic());
         context.addIntrinsic(new PlatformObjectIntrinsic(classGenerator));
@@ -470,6 +489,9 @@ public class WasmTarget implements TeaVMTarget, TeaVMWasmHost {
         }
 
         new UnusedFunctionElimination(module).apply();
+        if (!debugging) {
+            new DuplicateFunctionElimination(module).apply();
+        }
 
         if (Boolean.parseBoolean(System.getProperty("wasm.memoryTrace", "false"))) {
             new MemoryAccessTraceTransformation(module).apply();
@@ -477,6 +499,7 @@ public class WasmTarget implements TeaVMTarget, TeaVMWasmHost {
         if (Boolean.parseBoolean(System.getProperty("wasm.indirectCallTrace", "false"))) {
             new IndirectCallTraceTransformation(module).apply();
         }
+        new FunctionIndexOrdering(module).apply();
 
         WasmBinaryWriter writer = new WasmBinaryWriter();
         WasmBinaryRenderer renderer = new WasmBinaryRenderer(writer, version, obfuscated);
@@ -571,6 +594,7 @@ public class WasmTarget implements TeaVMTarget, TeaVMWasmHost {
         WasmCRenderer renderer = new WasmCRenderer();
         renderer.setLineNumbersEmitted(cLineNumbersEmitted);
         renderer.setMemoryAccessChecked(Boolean.parseBoolean(System.getProperty("wasm.c.assertMemory", "false")));
+        renderer.setHeapTraceEnabled(Boolean.parseBoolean(System.getProperty("wasm.c.heapTrace", "false")));
         renderer.render(module);
         try (OutputStream output = buildTarget.createResource(outputName);
                 Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8)) {
@@ -973,10 +973,7 @@ class WasmGenerationVisitor implements StatementVisitor, ExprVisitor {
                 result = new WasmUnreachable();
                 return;
             }
-            int vtableIndex = vtable.getMethods().indexOf(reference.getDescriptor());
-            if (vtable.getParent() != null) {
-                vtableIndex += vtable.getParent().size();
-            }
+            int vtableIndex = vtable.indexOf(reference.getDescriptor());
             WasmExpression methodIndex = new WasmIntBinary(WasmIntType.INT32, WasmIntBinaryOperation.ADD,
                     getReferenceToClass(instance), new WasmInt32Constant(vtableIndex * 4 + vtableOffset));
             methodIndex = new WasmLoadInt32(4, methodIndex, WasmInt32Subtype.INT32);
@@ -19,14 +19,21 @@ import java.util.stream.Collectors;
 import org.teavm.ast.InvocationExpr;
 import org.teavm.backend.wasm.WasmRuntime;
 import org.teavm.backend.wasm.generate.WasmClassGenerator;
+import org.teavm.backend.wasm.model.WasmLocal;
+import org.teavm.backend.wasm.model.WasmType;
+import org.teavm.backend.wasm.model.expression.WasmBlock;
 import org.teavm.backend.wasm.model.expression.WasmCall;
+import org.teavm.backend.wasm.model.expression.WasmCopyMemory;
 import org.teavm.backend.wasm.model.expression.WasmExpression;
+import org.teavm.backend.wasm.model.expression.WasmFillMemory;
+import org.teavm.backend.wasm.model.expression.WasmGetLocal;
 import org.teavm.backend.wasm.model.expression.WasmInt32Constant;
 import org.teavm.backend.wasm.model.expression.WasmInt32Subtype;
 import org.teavm.backend.wasm.model.expression.WasmIntBinary;
 import org.teavm.backend.wasm.model.expression.WasmIntBinaryOperation;
 import org.teavm.backend.wasm.model.expression.WasmIntType;
 import org.teavm.backend.wasm.model.expression.WasmLoadInt32;
+import org.teavm.backend.wasm.model.expression.WasmSetLocal;
 import org.teavm.model.FieldReference;
 import org.teavm.model.MethodReference;
 import org.teavm.runtime.Allocator;
@@ -35,9 +42,11 @@ import org.teavm.runtime.RuntimeClass;
 public class AllocatorIntrinsic implements WasmIntrinsic {
     private static final FieldReference flagsField = new FieldReference(RuntimeClass.class.getName(), "flags");
     private int flagsFieldOffset;
+    private boolean bulkMemoryEnabled;
 
-    public AllocatorIntrinsic(WasmClassGenerator classGenerator) {
+    public AllocatorIntrinsic(WasmClassGenerator classGenerator, boolean bulkMemoryEnabled) {
         flagsFieldOffset = classGenerator.getFieldOffset(flagsField);
+        this.bulkMemoryEnabled = bulkMemoryEnabled;
     }
 
     @Override
@@ -58,6 +67,12 @@ public class AllocatorIntrinsic implements WasmIntrinsic {
 
     @Override
     public WasmExpression apply(InvocationExpr invocation, WasmIntrinsicManager manager) {
+        if (bulkMemoryEnabled) {
+            WasmExpression bulkOperation = applyBulkMemoryOperation(invocation, manager);
+            if (bulkOperation != null) {
+                return bulkOperation;
+            }
+        }
         switch (invocation.getMethod().getName()) {
             case "fill":
             case "fillZero":
@@ -87,4 +102,39 @@ public class AllocatorIntrinsic implements WasmIntrinsic {
                 throw new IllegalArgumentException(invocation.getMethod().toString());
         }
     }
+
+    private WasmExpression applyBulkMemoryOperation(InvocationExpr invocation, WasmIntrinsicManager manager) {
+        switch (invocation.getMethod().getName()) {
+            case "fill":
+                return new WasmFillMemory(manager.generate(invocation.getArguments().get(0)),
+                        manager.generate(invocation.getArguments().get(1)),
+                        manager.generate(invocation.getArguments().get(2)));
+            case "fillZero":
+                return new WasmFillMemory(manager.generate(invocation.getArguments().get(0)),
+                        new WasmInt32Constant(0), manager.generate(invocation.getArguments().get(1)));
+            case "moveMemoryBlock":
+                return moveMemoryBlock(invocation, manager);
+            default:
+                return null;
+        }
+    }
+
+    private WasmExpression moveMemoryBlock(InvocationExpr invocation, WasmIntrinsicManager manager) {
+        WasmExpression source = manager.generate(invocation.getArguments().get(0));
+        if (source instanceof WasmInt32Constant) {
+            return new WasmCopyMemory(source, manager.generate(invocation.getArguments().get(1)),
+                    manager.generate(invocation.getArguments().get(2)));
+        }
+
+        // memory.copy evaluates target before source, so keep Java evaluation order with a local.
+        // Acquire it before generating remaining operands, so that they can't reuse it.
+        WasmLocal sourceVar = manager.getTemporary(WasmType.INT32);
+        WasmBlock block = new WasmBlock(false);
+        block.getBody().add(new WasmSetLocal(sourceVar, source));
+        WasmExpression target = manager.generate(invocation.getArguments().get(1));
+        WasmExpression count = manager.generate(invocation.getArguments().get(2));
+        block.getBody().add(new WasmCopyMemory(new WasmGetLocal(sourceVar), target, count));
+        manager.releaseTemporary(sourceVar);
+        return block;
+    }
 }
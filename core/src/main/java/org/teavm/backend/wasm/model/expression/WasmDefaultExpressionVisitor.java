@@ -185,4 +185,18 @@ public class WasmDefaultExpressionVisitor implements WasmExpressionVisitor {
     public void visit(WasmMemoryGrow expression) {
         expression.getAmount().acceptVisitor(this);
     }
+
+    @Override
+    public void visit(WasmFillMemory expression) {
+        expression.getIndex().acceptVisitor(this);
+        expression.getValue().acceptVisitor(this);
+        expression.getCount().acceptVisitor(this);
+    }
+
+    @Override
+    public void visit(WasmCopyMemory expression) {
+        expression.getSourceIndex().acceptVisitor(this);
+        expression.getDestinationIndex().acceptVisitor(this);
+        expression.getCount().acceptVisitor(this);
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ *  Copyright 2019 Alexey Andreev.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.teavm.backend.wasm.optimization;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.teavm.backend.wasm.model.WasmFunction;
+import org.teavm.backend.wasm.model.WasmModule;
+import org.teavm.backend.wasm.model.expression.WasmCall;
+import org.teavm.backend.wasm.model.expression.WasmDefaultExpressionVisitor;
+import org.teavm.backend.wasm.model.expression.WasmExpression;
+import org.teavm.backend.wasm.model.expression.WasmIndirectCall;
+import org.teavm.backend.wasm.render.WasmRenderer;
+
+/**
+ * <p>Merges functions that have identical signature, locals and body into a single function,
+ * redirecting all calls and function table entries to the remaining one.</p>
+ *
+ * <p>Functions are compared by their types and text representation, where locals are referenced by index and
+ * blocks are numbered in order of appearance, so that names of functions themselves don't matter.
+ * Imported and exported functions, as well as start function, are never removed.</p>
+ */
+public class DuplicateFunctionElimination {
+    private WasmModule module;
+    private Map<String, String> replacements = new HashMap<>();
+
+    public DuplicateFunctionElimination(WasmModule module) {
+        this.module = module;
+    }
+
+    public int apply() {
+        Map<String, WasmFunction> functionsByBody = new HashMap<>();
+        List<WasmFunction> duplicates = new ArrayList<>();
+        for (WasmFunction function : module.getFunctions().values()) {
+            if (function.getImportName() != null) {
+                continue;
+            }
+            WasmFunction existing = functionsByBody.putIfAbsent(render(function), function);
+            if (existing != null && function.getExportName() == null && function != module.getStartFunction()) {
+                replacements.put(function.getName(), existing.getName());
+                duplicates.add(function);
+            }
+        }
+
+        if (duplicates.isEmpty()) {
+            return 0;
+        }
+
+        for (WasmFunction duplicate : duplicates) {
+            module.remove(duplicate);
+        }
+        for (WasmFunction function : module.getFunctions().values()) {
+            for (WasmExpression part : function.getBody()) {
+                part.acceptVisitor(callReplacer);
+            }
+        }
+        List<WasmFunction> functionTable = module.getFunctionTable();
+        for (int i = 0; i < functionTable.size(); ++i) {
+            String replacement = replacements.get(functionTable.get(i).getName());
+            if (replacement != null) {
+                functionTable.set(i, module.getFunctions().get(replacement));
+            }
+        }
+
+        return duplicates.size();
+    }
+
+    private static String render(WasmFunction function) {
+        // Each renderer numbers types from scratch, so $typeN means different things in different functions.
+        // Write signature of function and signatures of indirect calls explicitly.
+        StringBuilder sb = new StringBuilder();
+        sb.append(function.getResult()).append(function.getParameters());
+        WasmDefaultExpressionVisitor indirectCallTypes = new WasmDefaultExpressionVisitor() {
+            @Override
+            public void visit(WasmIndirectCall expression) {
+                super.visit(expression);
+                sb.append(' ').append(expression.getReturnType()).append(expression.getParameterTypes());
+            }
+        };
+        for (WasmExpression part : function.getBody()) {
+            part.acceptVisitor(indirectCallTypes);
+        }
+
+        WasmRenderer renderer = new WasmRenderer();
+        renderer.render(function);
+        sb.append(renderer.toString().substring(("(func $" + function.getName()).length()));
+        return sb.toString();
+    }
+
+    private WasmDefaultExpressionVisitor callReplacer = new WasmDefaultExpressionVisitor() {
+        @Override
+        public void visit(WasmCall expression) {
+            super.visit(expression);
+            String replacement = replacements.get(expression.getFunctionName());
+            if (replacement != null) {
+                expression.setFunctionName(replacement);
+            }
+        }
+    };
+}
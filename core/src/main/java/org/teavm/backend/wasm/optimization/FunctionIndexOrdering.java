@@ -0,0 +1,63 @@
+/*
+ *  Copyright 2019 Alexey Andreev.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.teavm.backend.wasm.optimization;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.teavm.backend.wasm.model.WasmFunction;
+import org.teavm.backend.wasm.model.WasmModule;
+import org.teavm.backend.wasm.model.expression.WasmCall;
+import org.teavm.backend.wasm.model.expression.WasmDefaultExpressionVisitor;
+import org.teavm.backend.wasm.model.expression.WasmExpression;
+
+/**
+ * Reorders functions of a module by number of call sites, so that most frequently called functions
+ * get smallest indexes, which take less bytes in LEB128 encoding of {@code call} instructions.
+ */
+public class FunctionIndexOrdering {
+    private WasmModule module;
+    private Map<String, Integer> callCounts = new HashMap<>();
+
+    public FunctionIndexOrdering(WasmModule module) {
+        this.module = module;
+    }
+
+    public void apply() {
+        for (WasmFunction function : module.getFunctions().values()) {
+            for (WasmExpression part : function.getBody()) {
+                part.acceptVisitor(callCounter);
+            }
+        }
+
+        List<WasmFunction> functions = new ArrayList<>(module.getFunctions().values());
+        functions.sort(Comparator.comparingInt(function -> -callCounts.getOrDefault(function.getName(), 0)));
+        for (WasmFunction function : functions) {
+            module.remove(function);
+            module.add(function);
+        }
+    }
+
+    private WasmDefaultExpressionVisitor callCounter = new WasmDefaultExpressionVisitor() {
+        @Override
+        public void visit(WasmCall expression) {
+            super.visit(expression);
+            callCounts.merge(expression.getFunctionName(), 1, Integer::sum);
+        }
+    };
+}
@@ -254,9 +254,14 @@ public class WasmBinaryRenderer {
                 .filter(function -> function.getImportName() == null)
                 .collect(Collectors.toList());
 
+        // Function bodies don't depend on each other, since all indexes are computed by this point,
+        // so they can be encoded concurrently and then assembled in module order
+        List<byte[]> bodies = functions.parallelStream()
+                .map(this::renderFunction)
+                .collect(Collectors.toList());
+
         section.writeLEB(functions.size());
-        for (WasmFunction function : functions) {
-            byte[] body = renderFunction(function);
+        for (byte[] body : bodies) {
             section.writeLEB(body.length);
             section.writeBytes(body);
         }
@@ -34,6 +34,7 @@ public class WasmCRenderer {
     int currentLine = -1;
     boolean lineNumbersEmitted;
     boolean memoryAccessChecked;
+    boolean heapTraceEnabled;
     TextLocation lastReportedLocation;
 
     public boolean isLineNumbersEmitted() {
@@ -52,6 +53,14 @@ public class WasmCRenderer {
         this.memoryAccessChecked = memoryAccessChecked;
     }
 
+    public boolean isHeapTraceEnabled() {
+        return heapTraceEnabled;
+    }
+
+    public void setHeapTraceEnabled(boolean heapTraceEnabled) {
+        this.heapTraceEnabled = heapTraceEnabled;
+    }
+
     void indent() {
         ++indentLevel;
     }
@@ -100,7 +109,7 @@ public class WasmCRenderer {
 
     private void renderPrologue() {
         writeResource("org/teavm/backend/wasm/wasm-runtime.c");
-        line("#define TEAVM_MEMORY_TRACE 1");
+        line("#define TEAVM_MEMORY_TRACE " + (heapTraceEnabled ? 1 : 0));
         writeResource("org/teavm/backend/wasm/wasm-heapTrace.c");
     }
 
@@ -32,9 +32,11 @@ import org.teavm.backend.wasm.model.expression.WasmBreak;
 import org.teavm.backend.wasm.model.expression.WasmCall;
 import org.teavm.backend.wasm.model.expression.WasmConditional;
 import org.teavm.backend.wasm.model.expression.WasmConversion;
+import org.teavm.backend.wasm.model.expression.WasmCopyMemory;
 import org.teavm.backend.wasm.model.expression.WasmDrop;
 import org.teavm.backend.wasm.model.expression.WasmExpression;
 import org.teavm.backend.wasm.model.expression.WasmExpressionVisitor;
+import org.teavm.backend.wasm.model.expression.WasmFillMemory;
 import org.teavm.backend.wasm.model.expression.WasmFloat32Constant;
 import org.teavm.backend.wasm.model.expression.WasmFloat64Constant;
 import org.teavm.backend.wasm.model.expression.WasmFloatBinary;
@@ -725,6 +727,20 @@ class WasmCRenderingVisitor implements WasmExpressionVisitor {
         WasmType type = requiredType;
         StringBuilder sb = new StringBuilder();
 
+        WasmFunction target = getIndirectCallTarget(expression);
+        if (target != null) {
+            sb.append(target.getName()).append('(');
+            translateArguments(expression.getArguments(), expression.getParameterTypes(), result, sb);
+            sb.append(')');
+            result.setText(sb.toString());
+            if (type == null) {
+                result.addLine(result.getText() + ";", expression.getLocation());
+                result.setText(null);
+            }
+            value = result;
+            return;
+        }
+
         sb.append("(*(" + mapType(expression.getReturnType()) + " (*)(");
         for (int i = 0; i < expression.getParameterTypes().size(); ++i) {
             if (i > 0) {
@@ -750,6 +766,24 @@ class WasmCRenderingVisitor implements WasmExpressionVisitor {
         value = result;
     }
 
+    private WasmFunction getIndirectCallTarget(WasmIndirectCall expression) {
+        if (!(expression.getSelector() instanceof WasmInt32Constant)) {
+            return null;
+        }
+        int index = ((WasmInt32Constant) expression.getSelector()).getValue();
+        List<WasmFunction> table = module.getFunctionTable();
+        if (index < 0 || index >= table.size()) {
+            return null;
+        }
+        WasmFunction function = table.get(index);
+        if (function == null || function.getImportName() != null
+                || function.getResult() != expression.getReturnType()
+                || !function.getParameters().equals(expression.getParameterTypes())) {
+            return null;
+        }
+        return function;
+    }
+
     private void translateArguments(List<WasmExpression> wasmArguments, List<WasmType> signature,
             CExpression result, StringBuilder sb) {
         if (wasmArguments.isEmpty()) {
@@ -1058,6 +1092,56 @@ class WasmCRenderingVisitor implements WasmExpressionVisitor {
         value = result;
     }
 
+    @Override
+    public void visit(WasmFillMemory expression) {
+        CExpression result = new CExpression();
+
+        requiredType = WasmType.INT32;
+        expression.getIndex().acceptVisitor(this);
+        CExpression index = checkAddress(value);
+
+        requiredType = WasmType.INT32;
+        expression.getValue().acceptVisitor(this);
+        CExpression fillValue = value;
+
+        requiredType = WasmType.INT32;
+        expression.getCount().acceptVisitor(this);
+        CExpression count = value;
+
+        result.getLines().addAll(index.getLines());
+        result.getLines().addAll(fillValue.getLines());
+        result.getLines().addAll(count.getLines());
+        result.addLine("memset(&wasm_heap[" + index.getText() + "], " + fillValue.getText() + ", "
+                + count.getText() + ");", expression.getLocation());
+
+        value = result;
+    }
+
+    @Override
+    public void visit(WasmCopyMemory expression) {
+        CExpression result = new CExpression();
+
+        requiredType = WasmType.INT32;
+        expression.getDestinationIndex().acceptVisitor(this);
+        CExpression destinationIndex = checkAddress(value);
+
+        requiredType = WasmType.INT32;
+        expression.getSourceIndex().acceptVisitor(this);
+        CExpression sourceIndex = checkAddress(value);
+
+        requiredType = WasmType.INT32;
+        expression.getCount().acceptVisitor(this);
+        CExpression count = value;
+
+        result.getLines().addAll(destinationIndex.getLines());
+        result.getLines().addAll(sourceIndex.getLines());
+        result.getLines().addAll(count.getLines());
+        result.addLine("memmove(&wasm_heap[" + destinationIndex.getText() + "], &wasm_heap["
+                + sourceIndex.getText() + "], " + count.getText() + ");", expression.getLocation());
+
+        value = result;
+    }
+
     private CExpression checkAddress(CExpression index) {
         if (!memoryAccessChecked) {
             return index;
@@ -15,6 +15,8 @@
  */
 package org.teavm.model.classes;
 
+import com.carrotsearch.hppc.ObjectIntHashMap;
+import com.carrotsearch.hppc.ObjectIntMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -26,6 +28,8 @@ public class VirtualTable {
     private List<? extends MethodDescriptor> methods;
     private Set<MethodDescriptor> methodSet;
     private Map<MethodDescriptor, VirtualTableEntry> entryMap;
+    private ObjectIntMap<MethodDescriptor> methodIndexes;
+    private int size = -1;
 
     VirtualTable(String className, VirtualTable parent, List<? extends MethodDescriptor> methods,
             Set<MethodDescriptor> methodSet, Map<MethodDescriptor, VirtualTableEntry> entryMap) {
@@ -67,7 +71,27 @@ public class VirtualTable {
         return null;
     }
 
+    public int indexOf(MethodDescriptor method) {
+        if (methodIndexes == null) {
+            methodIndexes = new ObjectIntHashMap<>();
+            for (int i = 0; i < methods.size(); ++i) {
+                MethodDescriptor descriptor = methods.get(i);
+                if (descriptor != null && !methodIndexes.containsKey(descriptor)) {
+                    methodIndexes.put(descriptor, i);
+                }
+            }
+        }
+        int index = methodIndexes.getOrDefault(method, -1);
+        if (index >= 0 && parent != null) {
+            index += parent.size();
+        }
+        return index;
+    }
+
     public int size() {
-        return methods.size() + (parent != null ? parent.size() : 0);
+        if (size < 0) {
+            size = methods.size() + (parent != null ? parent.size() : 0);
+        }
+        return size;
     }
 }
@@ -17,22 +17,39 @@ package org.teavm.model.lowlevel;
 
 import com.carrotsearch.hppc.ObjectByteHashMap;
 import com.carrotsearch.hppc.ObjectByteMap;
+import java.util.List;
 import org.teavm.interop.Address;
 import org.teavm.interop.Function;
 import org.teavm.interop.StaticInit;
 import org.teavm.interop.Structure;
 import org.teavm.interop.Unmanaged;
+import org.teavm.model.BasicBlockReader;
 import org.teavm.model.ClassReader;
 import org.teavm.model.ClassReaderSource;
+import org.teavm.model.ElementModifier;
+import org.teavm.model.FieldReference;
+import org.teavm.model.MethodDescriptor;
+import org.teavm.model.MethodHandle;
 import org.teavm.model.MethodReader;
 import org.teavm.model.MethodReference;
+import org.teavm.model.ProgramReader;
+import org.teavm.model.RuntimeConstant;
+import org.teavm.model.ValueType;
+import org.teavm.model.VariableReader;
+import org.teavm.model.instructions.AbstractInstructionReader;
+import org.teavm.model.instructions.ArrayElementType;
+import org.teavm.model.instructions.BinaryOperation;
+import org.teavm.model.instructions.InvocationType;
+import org.teavm.model.instructions.NumericOperandType;
 
 public class Characteristics {
+    private static final MethodDescriptor CLINIT = new MethodDescriptor("<clinit>", void.class);
     private ClassReaderSource classSource;
     private ObjectByteMap<String> isStructure = new ObjectByteHashMap<>();
     private ObjectByteMap<String> isStaticInit = new ObjectByteHashMap<>();
     private ObjectByteMap<String> isFunction = new ObjectByteHashMap<>();
     private ObjectByteMap<MethodReference> isManaged = new ObjectByteHashMap<>();
+    private ObjectByteMap<MethodReference> isAllocationFree = new ObjectByteHashMap<>();
 
     public Characteristics(ClassReaderSource classSource) {
         this.classSource = classSource;
@@ -109,4 +126,192 @@ public class Characteristics {
         }
         return method.getAnnotations().get(Unmanaged.class.getName()) == null;
     }
+
+    /**
+     * Tells whether given invocation can't trigger GC, so that live references don't need to be stored in
+     * shadow stack around it. Since GC is only triggered by allocation, this holds for calls to methods that
+     * neither allocate nor can throw an exception (which is allocation as well), nor call anything that can.
+     * Virtual calls, as well as calls to static methods and constructors of classes that have static initializer,
+     * are never allocation free. The latter get class initialization check only later, so it can't be found
+     * in their bodies.
+     */
+    public boolean isAllocationFree(MethodReference methodReference, InvocationType type) {
+        if (type == InvocationType.VIRTUAL) {
+            return false;
+        }
+        MethodReader method = classSource.resolve(methodReference);
+        if (method == null) {
+            return false;
+        }
+        if ((method.hasModifier(ElementModifier.STATIC) || method.getName().equals("<init>"))
+                && !isStaticInit(method.getOwnerName())) {
+            ClassReader cls = classSource.get(method.getOwnerName());
+            if (cls == null || cls.getMethod(CLINIT) != null) {
+                return false;
+            }
+        }
+        return isAllocationFree(method.getReference());
+    }
+
+    private boolean isAllocationFree(MethodReference methodReference) {
+        byte result = isAllocationFree.getOrDefault(methodReference, (byte) -1);
+        if (result < 0) {
+            // Recursive calls are conservatively considered allocating
+            isAllocationFree.put(methodReference, (byte) 0);
+            result = computeIsAllocationFree(methodReference) ? (byte) 1 : 0;
+            isAllocationFree.put(methodReference, result);
+        }
+        return result != 0;
+    }
+
+    private boolean computeIsAllocationFree(MethodReference methodReference) {
+        if (!isManaged(methodReference)) {
+            return false;
+        }
+        MethodReader method = classSource.resolve(methodReference);
+        if (method == null || method.getProgram() == null) {
+            return false;
+        }
+
+        ProgramReader program = method.getProgram();
+        AllocationFinder finder = new AllocationFinder();
+        for (BasicBlockReader block : program.getBasicBlocks()) {
+            if (!block.readTryCatchBlocks().isEmpty()) {
+                return false;
+            }
+            block.readAllInstructions(finder);
+            if (finder.allocates) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    class AllocationFinder extends AbstractInstructionReader {
+        boolean allocates;
+
+        @Override
+        public void binary(BinaryOperation op, VariableReader receiver, VariableReader first,
+                VariableReader second, NumericOperandType type) {
+            if ((op == BinaryOperation.DIVIDE || op == BinaryOperation.MODULO)
+                    && (type == NumericOperandType.INT || type == NumericOperandType.LONG)) {
+                allocates = true;
+            }
+        }
+
+        @Override
+        public void cast(VariableReader receiver, VariableReader value, ValueType targetType) {
+            allocates = true;
+        }
+
+        @Override
+        public void raise(VariableReader exception) {
+            allocates = true;
+        }
+
+        @Override
+        public void createArray(VariableReader receiver, ValueType itemType, VariableReader size) {
+            allocates = true;
+        }
+
+        @Override
+        public void createArray(VariableReader receiver, ValueType itemType,
+                List<? extends VariableReader> dimensions) {
+            allocates = true;
+        }
+
+        @Override
+        public void create(VariableReader receiver, String type) {
+            allocates = true;
+        }
+
+        @Override
+        public void getField(VariableReader receiver, VariableReader instance, FieldReference field,
+                ValueType fieldType) {
+            checkFieldAccess(instance);
+        }
+
+        @Override
+        public void putField(VariableReader instance, FieldReference field, VariableReader value,
+                ValueType fieldType) {
+            checkFieldAccess(instance);
+        }
+
+        private void checkFieldAccess(VariableReader instance) {
+            // Static fields may require class initialization, fields of other objects may require null check
+            if (instance == null || instance.getIndex() != 0) {
+                allocates = true;
+            }
+        }
+
+        @Override
+        public void arrayLength(VariableReader receiver, VariableReader array) {
+            allocates = true;
+        }
+
+        @Override
+        public void cloneArray(VariableReader receiver, VariableReader array) {
+            allocates = true;
+        }
+
+        @Override
+        public void unwrapArray(VariableReader receiver, VariableReader array, ArrayElementType elementType) {
+            allocates = true;
+        }
+
+        @Override
+        public void getElement(VariableReader receiver, VariableReader array, VariableReader index,
+                ArrayElementType type) {
+            allocates = true;
+        }
+
+        @Override
+        public void putElement(VariableReader array, VariableReader index, VariableReader value,
+                ArrayElementType type) {
+            allocates = true;
+        }
+
+        @Override
+        public void invoke(VariableReader receiver, VariableReader instance, MethodReference method,
+                List<? extends VariableReader> arguments, InvocationType type) {
+            if (instance != null && instance.getIndex() != 0) {
+                allocates = true;
+            } else if (!isAllocationFree(method, type)) {
+                allocates = true;
+            }
+        }
+
+        @Override
+        public void invokeDynamic(VariableReader receiver, VariableReader instance, MethodDescriptor method,
+                List<? extends VariableReader> arguments, MethodHandle bootstrapMethod,
+                List<RuntimeConstant> bootstrapArguments) {
+            allocates = true;
+        }
+
+        @Override
+        public void initClass(String className) {
+            allocates = true;
+        }
+
+        @Override
+        public void nullCheck(VariableReader receiver, VariableReader value) {
+            allocates = true;
+        }
+
+        @Override
+        public void monitorEnter(VariableReader objectRef) {
+            allocates = true;
+        }
+
+        @Override
+        public void monitorExit(VariableReader objectRef) {
+            allocates = true;
+        }
+
+        @Override
+        public void boundCheck(VariableReader receiver, VariableReader index, VariableReader array,
+                boolean lower) {
+            allocates = true;
+        }
+    }
 }
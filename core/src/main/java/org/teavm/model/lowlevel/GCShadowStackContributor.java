@@ -160,7 +160,8 @@ public class GCShadowStackContributor {
                 for (Variable definedVar : defExtractor.getDefinedVariables()) {
                     currentLiveOut.clear(definedVar.getIndex());
                 }
-                if (ExceptionHandlingShadowStackContributor.isCallInstruction(characteristics, insn)) {
+                if (ExceptionHandlingShadowStackContributor.isCallInstruction(characteristics, insn)
+                        && !isAllocationFreeCall(insn)) {
                     BitSet csLiveIn = (BitSet) currentLiveOut.clone();
                     for (int v = csLiveIn.nextSetBit(0); v >= 0; v = csLiveIn.nextSetBit(v + 1)) {
                         if (!isReference(typeInferer, v) || nativePointers[v] || constants.get(v)) {
@@ -179,6 +180,14 @@ public class GCShadowStackContributor {
         return liveInInformation;
     }
 
+    private boolean isAllocationFreeCall(Instruction insn) {
+        if (!(insn instanceof InvokeInstruction)) {
+            return false;
+        }
+        InvokeInstruction invoke = (InvokeInstruction) insn;
+        return characteristics.isAllocationFree(invoke.getMethod(), invoke.getType());
+    }
+
     private Graph buildInterferenceGraph(List<Map<Instruction, BitSet>> liveInInformation, Program program,
             boolean[] spilled, int[] variableClasses) {
         GraphBuilder builder = new GraphBuilder(program.variableCount());
@@ -0,0 +1,146 @@
+/*
+ *  Copyright 2019 Alexey Andreev.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.teavm.model.transformation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.teavm.model.BasicBlock;
+import org.teavm.model.ClassHolder;
+import org.teavm.model.ClassHolderTransformer;
+import org.teavm.model.ClassHolderTransformerContext;
+import org.teavm.model.ClassReader;
+import org.teavm.model.ClassReaderSource;
+import org.teavm.model.ElementModifier;
+import org.teavm.model.FieldHolder;
+import org.teavm.model.Instruction;
+import org.teavm.model.MethodDescriptor;
+import org.teavm.model.MethodHolder;
+import org.teavm.model.Program;
+import org.teavm.model.instructions.DoubleConstantInstruction;
+import org.teavm.model.instructions.EmptyInstruction;
+import org.teavm.model.instructions.FloatConstantInstruction;
+import org.teavm.model.instructions.IntegerConstantInstruction;
+import org.teavm.model.instructions.LongConstantInstruction;
+import org.teavm.model.instructions.PutFieldInstruction;
+import org.teavm.model.instructions.StringConstantInstruction;
+
+/**
+ * <p>Moves stores of constant values into static fields of a class from the beginning of its
+ * static initializer into field initial values, so that backends put them directly into
+ * static data instead of executing them at startup.</p>
+ *
+ * <p>Only the leading sequence of constant definitions and stores to own static fields of
+ * the entry block is processed, since no code of the class can observe field values at that point.
+ * Classes whose supertypes have static initializers are skipped, since these initializers run first
+ * and may read fields of the class during circular initialization, expecting to see default values.</p>
+ */
+public class ClassInitializerConstantFolding implements ClassHolderTransformer {
+    private static final MethodDescriptor CLINIT = new MethodDescriptor("<clinit>", void.class);
+
+    @Override
+    public void transformClass(ClassHolder cls, ClassHolderTransformerContext context) {
+        MethodHolder initializer = cls.getMethod(CLINIT);
+        if (initializer == null || initializer.getProgram() == null) {
+            return;
+        }
+
+        if (supertypesHaveInitializers(cls, context.getHierarchy().getClassSource())) {
+            return;
+        }
+
+        Program program = initializer.getProgram();
+        if (program.basicBlockCount() == 0) {
+            return;
+        }
+
+        BasicBlock block = program.basicBlockAt(0);
+        Map<Integer, Object> constants = new HashMap<>();
+        for (Instruction instruction : block) {
+            Object constant = getConstant(instruction);
+            if (constant != null) {
+                constants.put(getReceiver(instruction), constant);
+                continue;
+            }
+
+            if (!(instruction instanceof PutFieldInstruction)) {
+                break;
+            }
+            PutFieldInstruction putField = (PutFieldInstruction) instruction;
+            if (putField.getInstance() != null || !putField.getField().getClassName().equals(cls.getName())) {
+                break;
+            }
+            FieldHolder field = cls.getField(putField.getField().getFieldName());
+            if (field == null || !field.hasModifier(ElementModifier.STATIC)) {
+                break;
+            }
+            Object value = constants.get(putField.getValue().getIndex());
+            if (value == null) {
+                break;
+            }
+
+            field.setInitialValue(value);
+            EmptyInstruction replacement = new EmptyInstruction();
+            replacement.setLocation(instruction.getLocation());
+            instruction.replace(replacement);
+        }
+    }
+
+    private static boolean supertypesHaveInitializers(ClassReader cls, ClassReaderSource classSource) {
+        List<String> supertypes = new ArrayList<>(cls.getInterfaces());
+        if (cls.getParent() != null) {
+            supertypes.add(cls.getParent());
+        }
+        for (String supertypeName : supertypes) {
+            ClassReader supertype = classSource.get(supertypeName);
+            if (supertype == null || supertype.getMethod(CLINIT) != null
+                    || supertypesHaveInitializers(supertype, classSource)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Object getConstant(Instruction instruction) {
+        if (instruction instanceof IntegerConstantInstruction) {
+            return ((IntegerConstantInstruction) instruction).getConstant();
+        } else if (instruction instanceof LongConstantInstruction) {
+            return ((LongConstantInstruction) instruction).getConstant();
+        } else if (instruction instanceof FloatConstantInstruction) {
+            return ((FloatConstantInstruction) instruction).getConstant();
+        } else if (instruction instanceof DoubleConstantInstruction) {
+            return ((DoubleConstantInstruction) instruction).getConstant();
+        } else if (instruction instanceof StringConstantInstruction) {
+            return ((StringConstantInstruction) instruction).getConstant();
+        }
+        return null;
+    }
+
+    private static int getReceiver(Instruction instruction) {
+        if (instruction instanceof IntegerConstantInstruction) {
+            return ((IntegerConstantInstruction) instruction).getReceiver().getIndex();
+        } else if (instruction instanceof LongConstantInstruction) {
+            return ((LongConstantInstruction) instruction).getReceiver().getIndex();
+        } else if (instruction instanceof FloatConstantInstruction) {
+            return ((FloatConstantInstruction) instruction).getReceiver().getIndex();
+        } else if (instruction instanceof DoubleConstantInstruction) {
+            return ((DoubleConstantInstruction) instruction).getReceiver().getIndex();
+        } else {
+            return ((StringConstantInstruction) instruction).getReceiver().getIndex();
+        }
+    }
+}
@@ -15,8 +15,10 @@
  */
 package org.teavm.model.util;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -68,7 +70,7 @@ public class AsyncMethodFinder {
                     continue;
                 }
                 if (method.getAnnotations().get(Async.class.getName()) != null) {
-                    add(method.getReference(), new CallStack(method.getReference(), null));
+                    add(method.getReference());
                 }
             }
         }
@@ -80,7 +82,7 @@ public class AsyncMethodFinder {
                         continue;
                     }
                     if (hasMonitor(method)) {
-                        add(method.getReference(), new CallStack(method.getReference(), null));
+                        add(method.getReference());
                     }
                 }
             }
@@ -139,57 +141,43 @@ public class AsyncMethodFinder {
         return false;
     }
 
-    private void add(MethodReference methodRef, CallStack stack) {
-        if (methodRef.getClassName().equals(Fiber.class.getName())) {
-            return;
+    private void add(MethodReference methodRef) {
+        Deque<MethodReference> queue = new ArrayDeque<>();
+        queue.add(methodRef);
+        while (!queue.isEmpty()) {
+            MethodReference method = queue.remove();
+            if (method.getClassName().equals(Fiber.class.getName()) || !asyncMethods.add(method)) {
+                continue;
+            }
+            for (MethodReference caller : getCallers(method)) {
+                if (!asyncMethods.contains(caller)) {
+                    queue.add(caller);
+                }
+            }
         }
+    }
 
-        if (!asyncMethods.add(methodRef)) {
-            return;
-        }
+    private Set<MethodReference> getCallers(MethodReference methodRef) {
         CallGraphNode node = callGraph.getNode(methodRef);
         if (node == null) {
-            return;
+            return Collections.emptySet();
         }
         ClassReader cls = classSource.get(methodRef.getClassName());
-        if (cls == null) {
-            return;
-        }
-        MethodReader method = cls.getMethod(methodRef.getDescriptor());
-        if (method == null) {
-            return;
+        if (cls == null || cls.getMethod(methodRef.getDescriptor()) == null) {
+            return Collections.emptySet();
         }
 
         if (!hasAsyncMethods && methodRef.getClassName().equals("java.lang.Object")
                 && (methodRef.getName().equals("monitorEnter") || methodRef.getName().equals("monitorExit"))) {
-            return;
+            return Collections.emptySet();
         }
+        Set<MethodReference> callers = new HashSet<>();
         for (CallSite callSite : node.getCallerCallSites()) {
             for (CallGraphNode caller : callSite.getCallers()) {
-                add(caller.getMethod(), new CallStack(caller.getMethod(), stack));
-            }
-        }
-    }
-
-    static class CallStack {
-        MethodReference method;
-        CallStack next;
-
-        CallStack(MethodReference method, CallStack next) {
-            this.method = method;
-            this.next = next;
-        }
-
-        @Override
-        public String toString() {
-            StringBuilder sb = new StringBuilder();
-            CallStack stack = this;
-            while (stack != null) {
-                sb.append("\n    calling " + stack.method);
-                stack = stack.next;
+                callers.add(caller.getMethod());
             }
-            return sb.toString();
         }
+        return callers;
     }
 
     private void addOverriddenToFamily(MethodReference methodRef) {
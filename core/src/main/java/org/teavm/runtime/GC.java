@@ -32,6 +32,9 @@ public final class GC {
     private static final byte CARD_YOUNG_GEN = 2;
     private static final byte CARD_GAP = 4;
     private static final byte CARD_RELOCATABLE = 8;
+    private static final long CARD_WORD_MASK = 0x0101010101010101L;
+    // Card table is scanned a word at a time, so backends must place it at an 8-byte aligned address
+    private static final int CARDS_PER_WORD = 8;
     private static final int MIN_CHUNK_SIZE = 8;
 
     static Address currentChunkLimit;
@@ -302,25 +305,21 @@ public final class GC {
     }
 
     private static void markFromOldGeneration() {
-        int validMask = CARD_VALID | (CARD_VALID << 8) | (CARD_VALID << 16) | (CARD_VALID << 24);
+        long validMask = CARD_VALID * CARD_WORD_MASK;
         int regionsCount = getRegionCount();
-        int regionSize = regionSize();
 
         Address cardPtr = cardTable();
-        Address regionPtr = heapAddress();
         int regionIndex;
-        for (regionIndex = 0; regionIndex < regionsCount - 3; regionIndex += 4) {
-            int n = cardPtr.getInt();
+        for (regionIndex = 0; regionIndex < regionsCount - (CARDS_PER_WORD - 1); regionIndex += CARDS_PER_WORD) {
+            long n = cardPtr.getLong();
             if ((n & validMask) != validMask) {
-                for (int i = 0; i < 4; ++i) {
-                    n = cardPtr.add(i).getByte();
-                    if ((n & CARD_VALID) == 0) {
+                for (int i = 0; i < CARDS_PER_WORD; ++i) {
+                    if ((cardPtr.add(i).getByte() & CARD_VALID) == 0) {
                         markFromRegion(regionIndex + i);
                     }
                 }
             }
-            cardPtr = cardPtr.add(4);
-            regionPtr = regionPtr.add(4 * regionSize);
+            cardPtr = cardPtr.add(CARDS_PER_WORD);
         }
 
         for (; regionIndex < regionsCount; regionIndex++) {
@@ -660,14 +659,14 @@ public final class GC {
     }
 
     private static void clearGapsFromCardTable() {
-        int gapMask = ~(CARD_GAP | (CARD_GAP << 8) | (CARD_GAP << 16) | (CARD_GAP << 24));
+        long gapMask = ~(CARD_GAP * CARD_WORD_MASK);
         int regionsCount = getRegionCount();
 
         Address cardPtr = cardTable();
         int regionIndex;
-        for (regionIndex = 0; regionIndex < regionsCount - 3; regionIndex += 4) {
-            cardPtr.putInt(cardPtr.getInt() & gapMask);
-            cardPtr = cardPtr.add(4);
+        for (regionIndex = 0; regionIndex < regionsCount - (CARDS_PER_WORD - 1); regionIndex += CARDS_PER_WORD) {
+            cardPtr.putLong(cardPtr.getLong() & gapMask);
+            cardPtr = cardPtr.add(CARDS_PER_WORD);
         }
 
         for (; regionIndex < regionsCount; regionIndex++) {
@@ -968,26 +967,23 @@ public final class GC {
     }
 
     private static void updatePointersFromObjectsYoung() {
-        int validMask = CARD_VALID | (CARD_VALID << 8) | (CARD_VALID << 16) | (CARD_VALID << 24);
-        int youngMask = CARD_YOUNG_GEN | (CARD_YOUNG_GEN << 8) | (CARD_YOUNG_GEN << 16) | (CARD_YOUNG_GEN << 24);
+        long validMask = CARD_VALID * CARD_WORD_MASK;
+        long youngMask = CARD_YOUNG_GEN * CARD_WORD_MASK;
         int regionsCount = getRegionCount();
-        int regionSize = regionSize();
 
         Address cardPtr = cardTable();
-        Address regionPtr = heapAddress();
         int regionIndex;
-        for (regionIndex = 0; regionIndex < regionsCount - 3; regionIndex += 4) {
-            int n = cardPtr.getInt();
+        for (regionIndex = 0; regionIndex < regionsCount - (CARDS_PER_WORD - 1); regionIndex += CARDS_PER_WORD) {
+            long n = cardPtr.getLong();
             if ((n & validMask) != validMask || (n & youngMask) != 0) {
-                for (int i = 0; i < 4; ++i) {
-                    n = cardPtr.add(i).getByte();
-                    if ((n & CARD_VALID) == 0 || (n & CARD_YOUNG_GEN) != 0) {
+                for (int i = 0; i < CARDS_PER_WORD; ++i) {
+                    int card = cardPtr.add(i).getByte();
+                    if ((card & CARD_VALID) == 0 || (card & CARD_YOUNG_GEN) != 0) {
                         updatePointersFromRegion(regionIndex + i);
                     }
                 }
             }
-            cardPtr = cardPtr.add(4);
-            regionPtr = regionPtr.add(4 * regionSize);
+            cardPtr = cardPtr.add(CARDS_PER_WORD);
         }
 
         for (; regionIndex < regionsCount; regionIndex++) {
@@ -1119,24 +1115,22 @@ public final class GC {
 
 
     private static void restoreObjectHeaders() {
-        int relocatableMask = CARD_RELOCATABLE | (CARD_RELOCATABLE << 8) | (CARD_RELOCATABLE << 16)
-                | (CARD_RELOCATABLE << 24);
+        long relocatableMask = CARD_RELOCATABLE * CARD_WORD_MASK;
         int regionsCount = getRegionCount();
 
         Address cardPtr = cardTable();
         Address limit = heapAddress().add(availableBytes());
         int regionIndex;
-        for (regionIndex = 0; regionIndex < regionsCount - 3; regionIndex += 4) {
-            int n = cardPtr.getInt();
+        for (regionIndex = 0; regionIndex < regionsCount - (CARDS_PER_WORD - 1); regionIndex += CARDS_PER_WORD) {
+            long n = cardPtr.getLong();
             if ((n & relocatableMask) != 0) {
-                for (int i = 0; i < 4; ++i) {
-                    n = cardPtr.add(i).getByte();
-                    if ((n & CARD_RELOCATABLE) != 0) {
+                for (int i = 0; i < CARDS_PER_WORD; ++i) {
+                    if ((cardPtr.add(i).getByte() & CARD_RELOCATABLE) != 0) {
                         restoreObjectHeadersInRegion(regionIndex + i, limit);
                     }
                 }
             }
-            cardPtr = cardPtr.add(4);
+            cardPtr = cardPtr.add(CARDS_PER_WORD);
         }
 
         for (; regionIndex < regionsCount; regionIndex++) {
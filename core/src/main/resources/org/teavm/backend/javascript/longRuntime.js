@@ -0,0 +1,75 @@
+/*
+ *  Copyright 2019 Alexey Andreev.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+"use strict";
+function $rt_createLongArray(sz) {
+    var data = new Array(sz);
+    var arr = new $rt_array($rt_longcls(), data);
+    data.fill(Long_ZERO);
+    return arr;
+}
+function $rt_createLongArrayFromData(init) {
+    return new $rt_array($rt_longcls(), init);
+}
+function $rt_doubleToLongBits(n) {
+    $rt_numberConversionView.setFloat64(0, n, true);
+    return new Long($rt_numberConversionView.getInt32(0, true), $rt_numberConversionView.getInt32(4, true));
+}
+function $rt_longBitsToDouble(n) {
+    $rt_numberConversionView.setInt32(0, n.lo, true);
+    $rt_numberConversionView.setInt32(4, n.hi, true);
+    return $rt_numberConversionView.getFloat64(0, true);
+}
+function Long(lo, hi) {
+    this.lo = lo | 0;
+    this.hi = hi | 0;
+}
+Long.prototype.__teavm_class__ = function() {
+    return "long";
+};
+Long.prototype.toString = function() {
+    var result = [];
+    var n = this;
+    var positive = Long_isPositive(n);
+    if (!positive) {
+        n = Long_neg(n);
+    }
+    var radix = new Long(10, 0);
+    do {
+        var divRem = Long_divRem(n, radix);
+        result.push(String.fromCharCode(48 + divRem[1].lo));
+        n = divRem[0];
+    } while (n.lo !== 0 || n.hi !== 0);
+    result = result.reverse().join('');
+    return positive ? result : "-" + result;
+};
+Long.prototype.valueOf = function() {
+    return Long_toNumber(this);
+};
+var Long_ZERO = new Long(0, 0);
+var Long_MAX_NORMAL = 1 << 18;
+function Long_fromInt(val) {
+    return new Long(val, (-(val < 0)) | 0);
+}
+function Long_fromNumber(val) {
+    if (val >= 0) {
+        return new Long(val | 0, (val / 0x100000000) | 0);
+    } else {
+        return Long_neg(new Long(-val | 0, (-val / 0x100000000) | 0));
+    }
+}
+function Long_toNumber(val) {
+    return 0x100000000 * val.hi + (val.lo >>> 0);
+}
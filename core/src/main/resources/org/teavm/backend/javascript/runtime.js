@@ -74,15 +74,6 @@ function $rt_wrapArray(cls, data) {
 function $rt_createUnfilledArray(cls, sz) {
     return new $rt_array(cls, new Array(sz));
 }
-function $rt_createLongArray(sz) {
-    var data = new Array(sz);
-    var arr = new $rt_array($rt_longcls(), data);
-    data.fill(Long_ZERO);
-    return arr;
-}
-function $rt_createLongArrayFromData(init) {
-    return new $rt_array($rt_longcls(), init);
-}
 function $rt_createNumericArray(cls, nativeArray) {
     return new $rt_array(cls, nativeArray);
 }
@@ -147,7 +138,12 @@ function $rt_arraycls(cls) {
     var result = cls.$array;
     if (result === null) {
         var arraycls = {};
-        var name = "[" + cls.$meta.binaryName;
+        var binaryName = cls.$meta.binaryName;
+        if (binaryName === null) {
+            binaryName = "L" + cls.$meta.name + ";";
+            cls.$meta.binaryName = binaryName;
+        }
+        var name = "[" + binaryName;
         arraycls.$meta = {
             item: cls,
             supertypes: [$rt_objcls()],
@@ -499,6 +495,8 @@ function $rt_packages(data) {
     }
     $rt_packageData = packages;
 }
+function $rt_emptyClinit() {
+}
 function $rt_metadata(data) {
     var packages = $rt_packageData;
     var i = 0;
@@ -516,7 +514,7 @@ function $rt_metadata(data) {
             }
         }
 
-        m.binaryName = "L" + m.name + ";";
+        m.binaryName = null;
         var superclass = data[i++];
         m.superclass = superclass !== 0 ? superclass : null;
         m.supertypes = data[i++];
@@ -551,18 +549,20 @@ function $rt_metadata(data) {
         }
 
         var clinit = data[i++];
-        cls.$clinit = clinit !== 0 ? clinit : function() {};
+        cls.$clinit = clinit !== 0 ? clinit : $rt_emptyClinit;
 
         var virtualMethods = data[i++];
         if (virtualMethods !== 0) {
+            var prototype = cls.prototype;
             for (var j = 0; j < virtualMethods.length; j += 2) {
                 var name = virtualMethods[j];
                 var func = virtualMethods[j + 1];
                 if (typeof name === 'string') {
-                    name = [name];
-                }
-                for (var k = 0; k < name.length; ++k) {
-                    cls.prototype[name[k]] = func;
+                    prototype[name] = func;
+                } else {
+                    for (var k = 0; k < name.length; ++k) {
+                        prototype[name[k]] = func;
+                    }
                 }
             }
         }
@@ -616,14 +616,19 @@ function $rt_mainStarter(f) {
     }
 }
 var $rt_stringPool_instance;
+var $rt_stringPool_data;
 function $rt_stringPool(strings) {
+    $rt_stringPool_data = strings;
     $rt_stringPool_instance = new Array(strings.length);
-    for (var i = 0; i < strings.length; ++i) {
-        $rt_stringPool_instance[i] = $rt_intern($rt_str(strings[i]));
-    }
+    $rt_stringPool_instance.fill(null);
 }
 function $rt_s(index) {
-    return $rt_stringPool_instance[index];
+    var str = $rt_stringPool_instance[index];
+    if (str === null) {
+        str = $rt_intern($rt_str($rt_stringPool_data[index]));
+        $rt_stringPool_instance[index] = str;
+    }
+    return str;
 }
 function $rt_eraseClinit(target) {
     return target.$clinit = function() {};
@@ -631,15 +636,6 @@ function $rt_eraseClinit(target) {
 
 var $rt_numberConversionView = new DataView(new ArrayBuffer(8));
 
-function $rt_doubleToLongBits(n) {
-    $rt_numberConversionView.setFloat64(0, n, true);
-    return new Long($rt_numberConversionView.getInt32(0, true), $rt_numberConversionView.getInt32(4, true));
-}
-function $rt_longBitsToDouble(n) {
-    $rt_numberConversionView.setInt32(0, n.lo, true);
-    $rt_numberConversionView.setInt32(4, n.hi, true);
-    return $rt_numberConversionView.getFloat64(0, true);
-}
 function $rt_floatToIntBits(n) {
     $rt_numberConversionView.setFloat32(0, n);
     return $rt_numberConversionView.getInt32(0);
@@ -700,47 +696,6 @@ function $dbg_class(obj) {
     }
     return clsName;
 }
-function Long(lo, hi) {
-    this.lo = lo | 0;
-    this.hi = hi | 0;
-}
-Long.prototype.__teavm_class__ = function() {
-    return "long";
-};
-Long.prototype.toString = function() {
-    var result = [];
-    var n = this;
-    var positive = Long_isPositive(n);
-    if (!positive) {
-        n = Long_neg(n);
-    }
-    var radix = new Long(10, 0);
-    do {
-        var divRem = Long_divRem(n, radix);
-        result.push(String.fromCharCode(48 + divRem[1].lo));
-        n = divRem[0];
-    } while (n.lo !== 0 || n.hi !== 0);
-    result = result.reverse().join('');
-    return positive ? result : "-" + result;
-};
-Long.prototype.valueOf = function() {
-    return Long_toNumber(this);
-};
-var Long_ZERO = new Long(0, 0);
-var Long_MAX_NORMAL = 1 << 18;
-function Long_fromInt(val) {
-    return new Long(val, (-(val < 0)) | 0);
-}
-function Long_fromNumber(val) {
-    if (val >= 0) {
-        return new Long(val | 0, (val / 0x100000000) | 0);
-    } else {
-        return Long_neg(new Long(-val | 0, (-val / 0x100000000) | 0));
-    }
-}
-function Long_toNumber(val) {
-    return 0x100000000 * val.hi + (val.lo >>> 0);
-}
 var $rt_imul = Math.imul || function(a, b) {
     var ah = (a >>> 16) & 0xFFFF;
     var al = a & 0xFFFF;
@@ -46,8 +46,10 @@ int32_t teavm_regionSize();
 int32_t teavm_regionsAddress();
 
 void teavmHeapTrace_init(int32_t maxHeap) {
-    teavm_gc_heapMap = (uint8_t*) malloc(maxHeap / TEAVM_REFERENCE_SIZE);
-    teavm_gc_markMap = (uint8_t*) malloc(maxHeap / TEAVM_REFERENCE_SIZE);
+    #if TEAVM_MEMORY_TRACE
+        teavm_gc_heapMap = (uint8_t*) malloc(maxHeap / TEAVM_REFERENCE_SIZE);
+        teavm_gc_markMap = (uint8_t*) malloc(maxHeap / TEAVM_REFERENCE_SIZE);
+    #endif
 }
 
 void teavmHeapTrace_allocate(int32_t address, int32_t size) {
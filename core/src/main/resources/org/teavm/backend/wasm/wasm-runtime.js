@@ -38,12 +38,38 @@ TeaVM.wasm = function() {
         return new Date(instant).getTimezoneOffset();
     }
     function logString(string) {
-        var memory = new DataView(logString.memory.buffer);
-        var arrayPtr = memory.getUint32(string + 8, true);
-        var length = memory.getUint32(arrayPtr + 8, true);
-        for (var i = 0; i < length; ++i) {
-            putwchar(memory.getUint16(i * 2 + arrayPtr + 12, true));
+        let lines = decodeString(logString.memory, string).split("\n");
+        for (let i = 0; i < lines.length - 1; ++i) {
+            console.log(lineBuffer + lines[i]);
+            lineBuffer = "";
+        }
+        lineBuffer += lines[lines.length - 1];
+    }
+
+    // Java strings may contain unpaired surrogates, which TextDecoder would replace,
+    // so characters are converted in chunks small enough to pass as arguments
+    const stringChunkSize = 8192;
+    function decodeString(memory, string) {
+        let view = new DataView(memory.buffer);
+        let arrayPtr = view.getUint32(string + 8, true);
+        let length = view.getUint32(arrayPtr + 8, true);
+        let chars = new Uint16Array(memory.buffer, arrayPtr + 12, length);
+        let result = "";
+        for (let i = 0; i < length; i += stringChunkSize) {
+            result += String.fromCharCode.apply(null, chars.subarray(i, Math.min(length, i + stringChunkSize)));
+        }
+        return result;
+    }
+    function encodeString(instance, text) {
+        let exports = instance.exports;
+        let string = exports.teavm_allocateString(text.length);
+        let view = new DataView(exports.memory.buffer);
+        let arrayPtr = view.getUint32(string + 8, true);
+        let chars = new Uint16Array(exports.memory.buffer, arrayPtr + 12, text.length);
+        for (let i = 0; i < text.length; ++i) {
+            chars[i] = text.charCodeAt(i);
         }
+        return string;
     }
     function logInt(i) {
         lineBuffer += i.toString();
@@ -123,5 +149,5 @@ TeaVM.wasm = function() {
         xhr.send();
     }
 
-    return { importDefaults: importDefaults, run: run };
+    return { importDefaults: importDefaults, run: run, decodeString: decodeString, encodeString: encodeString };
 }();
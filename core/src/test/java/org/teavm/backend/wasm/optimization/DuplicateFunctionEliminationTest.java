@@ -0,0 +1,111 @@
+/*
+ *  Copyright 2019 Alexey Andreev.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.teavm.backend.wasm.optimization;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import org.teavm.backend.wasm.model.WasmFunction;
+import org.teavm.backend.wasm.model.WasmLocal;
+import org.teavm.backend.wasm.model.WasmModule;
+import org.teavm.backend.wasm.model.WasmType;
+import org.teavm.backend.wasm.model.expression.WasmCall;
+import org.teavm.backend.wasm.model.expression.WasmDrop;
+import org.teavm.backend.wasm.model.expression.WasmGetLocal;
+import org.teavm.backend.wasm.model.expression.WasmIndirectCall;
+import org.teavm.backend.wasm.model.expression.WasmInt32Constant;
+import org.teavm.backend.wasm.model.expression.WasmReturn;
+
+public class DuplicateFunctionEliminationTest {
+    private WasmModule module = new WasmModule();
+
+    @Test
+    public void identicalFunctionsMerged() {
+        WasmFunction first = identity("first");
+        WasmFunction second = identity("second");
+        module.add(first);
+        module.add(second);
+        WasmCall call = new WasmCall("second", new WasmInt32Constant(1));
+        module.add(caller(call));
+        module.getFunctionTable().add(second);
+
+        assertEquals(1, new DuplicateFunctionElimination(module).apply());
+
+        assertTrue(module.getFunctions().containsKey("first"));
+        assertFalse(module.getFunctions().containsKey("second"));
+        assertEquals("first", call.getFunctionName());
+        assertEquals(first, module.getFunctionTable().get(0));
+    }
+
+    @Test
+    public void identicalBodiesWithDifferentSignaturesKept() {
+        WasmFunction noParameters = new WasmFunction("noParameters");
+        noParameters.setResult(WasmType.INT32);
+        noParameters.getBody().add(new WasmReturn(new WasmInt32Constant(1)));
+        module.add(noParameters);
+
+        WasmFunction oneParameter = new WasmFunction("oneParameter");
+        oneParameter.setResult(WasmType.INT32);
+        oneParameter.getParameters().add(WasmType.INT32);
+        oneParameter.add(new WasmLocal(WasmType.INT32));
+        oneParameter.getBody().add(new WasmReturn(new WasmInt32Constant(1)));
+        module.add(oneParameter);
+
+        WasmFunction otherParameter = new WasmFunction("otherParameter");
+        otherParameter.setResult(WasmType.INT32);
+        otherParameter.getParameters().add(WasmType.FLOAT64);
+        otherParameter.add(new WasmLocal(WasmType.FLOAT64));
+        otherParameter.getBody().add(new WasmReturn(new WasmInt32Constant(1)));
+        module.add(otherParameter);
+
+        assertEquals(0, new DuplicateFunctionElimination(module).apply());
+        assertEquals(3, module.getFunctions().size());
+    }
+
+    @Test
+    public void identicalBodiesWithDifferentIndirectCallsKept() {
+        module.add(indirectCaller("returnsInt", WasmType.INT32));
+        module.add(indirectCaller("returnsLong", WasmType.INT64));
+
+        assertEquals(0, new DuplicateFunctionElimination(module).apply());
+        assertEquals(2, module.getFunctions().size());
+    }
+
+    private static WasmFunction identity(String name) {
+        WasmFunction function = new WasmFunction(name);
+        function.setResult(WasmType.INT32);
+        function.getParameters().add(WasmType.INT32);
+        WasmLocal parameter = new WasmLocal(WasmType.INT32);
+        function.add(parameter);
+        function.getBody().add(new WasmReturn(new WasmGetLocal(parameter)));
+        return function;
+    }
+
+    private static WasmFunction caller(WasmCall call) {
+        WasmFunction function = new WasmFunction("caller");
+        function.getBody().add(new WasmDrop(call));
+        return function;
+    }
+
+    private static WasmFunction indirectCaller(String name, WasmType returnType) {
+        WasmFunction function = new WasmFunction(name);
+        WasmIndirectCall call = new WasmIndirectCall(new WasmInt32Constant(0));
+        call.setReturnType(returnType);
+        function.getBody().add(new WasmDrop(call));
+        return function;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ *  Copyright 2019 Alexey Andreev.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.teavm.samples.benchmark.teavm;
+
+import org.teavm.samples.benchmark.shared.Scene;
+
+public final class HeadlessBenchmarkStarter {
+    private static final int WARM_UP_STEPS = 200;
+    private static final int STEPS = 2000;
+    private static final int STEPS_PER_REPORT = 200;
+
+    private HeadlessBenchmarkStarter() {
+    }
+
+    public static void main(String[] args) {
+        Scene scene = new Scene();
+        for (int i = 0; i < WARM_UP_STEPS; ++i) {
+            scene.calculate();
+        }
+
+        long total = 0;
+        long portion = 0;
+        for (int i = 1; i <= STEPS; ++i) {
+            long start = System.nanoTime();
+            scene.calculate();
+            long time = System.nanoTime() - start;
+            total += time;
+            portion += time;
+            if (i % STEPS_PER_REPORT == 0) {
+                System.out.println("Steps " + (i - STEPS_PER_REPORT + 1) + "-" + i + " took "
+                        + portion / 1000000 + " ms");
+                portion = 0;
+            }
+        }
+        System.out.println("Total: " + total / 1000000 + " ms, " + (total / STEPS / 1000) + " us per step");
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ *  Copyright 2019 Alexey Andreev.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.teavm.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.Test;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.Function;
+import org.mozilla.javascript.NativeObject;
+import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
+import org.teavm.backend.javascript.JavaScriptTarget;
+import org.teavm.vm.TeaVM;
+import org.teavm.vm.TeaVMBuilder;
+
+public class ModuleOutputTest {
+    private static final Pattern EXPORT_PATTERN = Pattern.compile("\\bexport\\s*\\{([^}]*)\\}\\s*;\\s*$");
+
+    @Test
+    public void exportsEntryPoints() {
+        String script = build();
+
+        Matcher matcher = EXPORT_PATTERN.matcher(script);
+        assertTrue("Module must end with export clause", matcher.find());
+        String[] exported = matcher.group(1).trim().split("\\s*,\\s*");
+        assertEquals(2, exported.length);
+        assertEquals("first", exported[0]);
+        assertEquals("second", exported[1]);
+
+        // Rhino does not support ES modules, so evaluate module body and check exported names are bound there
+        Context context = Context.enter();
+        try {
+            context.setOptimizationLevel(-1);
+            context.setLanguageVersion(Context.VERSION_ES6);
+            ScriptableObject rootScope = context.initStandardObjects();
+            Scriptable scope = new NativeObject();
+            scope.setParentScope(rootScope);
+            context.evaluateString(scope, script.substring(0, matcher.start()), "module.js", 1, null);
+            for (String name : exported) {
+                assertTrue("Exported name " + name + " must be a function",
+                        scope.get(name, scope) instanceof Function);
+            }
+        } finally {
+            Context.exit();
+        }
+    }
+
+    private String build() {
+        JavaScriptTarget target = new JavaScriptTarget();
+        target.setModuleOutput(true);
+        TeaVM vm = new TeaVMBuilder(target).build();
+        vm.installPlugins();
+        vm.entryPoint(EntryPoint.class.getName(), "first");
+        vm.entryPoint(EntryPoint.class.getName(), "second");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        vm.build(name -> output, "module.js");
+        assertTrue(vm.getProblemProvider().getSevereProblems().isEmpty());
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    public static class EntryPoint {
+        public static void main(String[] args) {
+            System.out.println("started");
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ *  Copyright 2019 Alexey Andreev.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.teavm.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.teavm.backend.wasm.WasmRuntime;
+import org.teavm.backend.wasm.WasmTarget;
+import org.teavm.classlib.PlatformDetector;
+import org.teavm.interop.Export;
+import org.teavm.vm.TeaVM;
+import org.teavm.vm.TeaVMBuilder;
+
+public class WasmStringsTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void stringsPassedBetweenHostAndModule() throws IOException, InterruptedException {
+        StringBuilder longString = new StringBuilder();
+        for (int i = 0; i < 20000; ++i) {
+            longString.append((char) ('a' + i % 26));
+        }
+        List<String> inputs = Arrays.asList("", "foo", "\uD83D\uDE00 non-BMP", "a\uD800b", "\uDC00",
+                "\uDBFF\uDFFF\uD800", longString.toString());
+
+        List<String> output = run(inputs);
+
+        List<String> expected = new ArrayList<>();
+        for (String input : inputs) {
+            expected.add(Module.echo(input));
+        }
+        expected.addAll(expected);
+        assertEquals(expected.size(), output.size());
+        for (int i = 0; i < expected.size(); ++i) {
+            assertEquals("Line " + i, toCharCodes(expected.get(i)), output.get(i));
+        }
+    }
+
+    private List<String> run(List<String> inputs) throws IOException, InterruptedException {
+        File dir = temporaryFolder.getRoot();
+        WasmTarget target = new WasmTarget();
+        TeaVM vm = new TeaVMBuilder(target).build();
+        vm.installPlugins();
+        vm.entryPoint(Module.class.getName());
+        vm.build(dir, "strings.wasm");
+        assertTrue(vm.getProblemProvider().getSevereProblems().isEmpty());
+
+        File script = new File(dir, "wasm-strings.js");
+        try (InputStream input = WasmStringsTest.class.getResourceAsStream("wasm-strings.js")) {
+            Files.copy(input, script.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        File inputFile = new File(dir, "inputs.json");
+        try (Writer writer = Files.newBufferedWriter(inputFile.toPath(), StandardCharsets.UTF_8)) {
+            writer.write("[");
+            for (int i = 0; i < inputs.size(); ++i) {
+                if (i > 0) {
+                    writer.write(",");
+                }
+                writer.write("[" + toCharCodes(inputs.get(i)) + "]");
+            }
+            writer.write("]");
+        }
+
+        Process process;
+        try {
+            process = new ProcessBuilder("node", script.getPath(), new File(dir, "strings.wasm-runtime.js").getPath(),
+                    new File(dir, "strings.wasm").getPath(), inputFile.getPath()).redirectErrorStream(true).start();
+        } catch (IOException e) {
+            Assume.assumeNoException("Node.js is required to run WebAssembly module", e);
+            throw e;
+        }
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(),
+                StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        assertEquals("Node.js failed: " + lines, 0, process.waitFor());
+        return lines;
+    }
+
+    private static String toCharCodes(String text) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < text.length(); ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append((int) text.charAt(i));
+        }
+        return sb.toString();
+    }
+
+    public static class Module {
+        public static void main(String[] args) {
+        }
+
+        @Export(name = "echo")
+        public static String echo(String text) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < text.length(); ++i) {
+                sb.append(text.charAt(i));
+            }
+            sb.append('|').append(text.length());
+            String result = sb.toString();
+            if (PlatformDetector.isWebAssembly()) {
+                WasmRuntime.printString(result + "\n");
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ *  Copyright 2019 Alexey Andreev.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.teavm.vm;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import java.util.Arrays;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.teavm.classlib.PlatformDetector;
+import org.teavm.interop.Address;
+import org.teavm.junit.SkipJVM;
+import org.teavm.junit.TeaVMTestRunner;
+import org.teavm.runtime.Allocator;
+
+@RunWith(TeaVMTestRunner.class)
+public class ArrayMemoryTest {
+    @Test
+    public void arrayCopiedToOverlappingRegion() {
+        int[] array = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 };
+        System.arraycopy(array, 0, array, 2, 6);
+        assertArrayEquals(new int[] { 0, 1, 0, 1, 2, 3, 4, 5, 8, 9 }, array);
+
+        array = new int[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 };
+        System.arraycopy(array, 2, array, 0, 6);
+        assertArrayEquals(new int[] { 2, 3, 4, 5, 6, 7, 6, 7, 8, 9 }, array);
+    }
+
+    @Test
+    public void arrayCopiedWithUnalignedBounds() {
+        byte[] source = new byte[19];
+        for (int i = 0; i < source.length; ++i) {
+            source[i] = (byte) (i + 1);
+        }
+        for (int length = 0; length <= 17; ++length) {
+            byte[] target = new byte[19];
+            System.arraycopy(source, 1, target, 2, length);
+            for (int i = 0; i < target.length; ++i) {
+                byte expected = i >= 2 && i < 2 + length ? (byte) i : 0;
+                assertEquals("length " + length + ", index " + i, expected, target[i]);
+            }
+        }
+    }
+
+    @Test
+    public void arraysOfWideElementsCopied() {
+        long[] longs = { 1, Long.MAX_VALUE, -3, Long.MIN_VALUE };
+        long[] longsCopy = new long[5];
+        System.arraycopy(longs, 1, longsCopy, 2, 3);
+        assertArrayEquals(new long[] { 0, 0, Long.MAX_VALUE, -3, Long.MIN_VALUE }, longsCopy);
+
+        String[] strings = { "a", "b", "c" };
+        Object[] objects = new Object[4];
+        System.arraycopy(strings, 0, objects, 1, 3);
+        assertArrayEquals(new Object[] { null, "a", "b", "c" }, objects);
+    }
+
+    @Test
+    public void arrayCloned() {
+        double[] array = { 1, 2.5, -3 };
+        double[] copy = array.clone();
+        array[0] = 4;
+        assertArrayEquals(new double[] { 1, 2.5, -3 }, copy, 0);
+    }
+
+    @Test
+    public void newArrayZeroed() {
+        for (int length = 0; length <= 17; ++length) {
+            byte[] garbage = new byte[length];
+            for (int i = 0; i < length; ++i) {
+                garbage[i] = -1;
+            }
+            byte[] array = new byte[length];
+            for (int i = 0; i < length; ++i) {
+                assertEquals("length " + length + ", index " + i, 0, array[i]);
+            }
+        }
+    }
+
+    @Test
+    public void arrayFilledWithUnalignedBounds() {
+        for (int start = 0; start < 8; ++start) {
+            for (int length = 0; length <= 17; ++length) {
+                byte[] array = new byte[32];
+                Arrays.fill(array, start, start + length, (byte) 0x5A);
+                for (int i = 0; i < array.length; ++i) {
+                    byte expected = i >= start && i < start + length ? (byte) 0x5A : 0;
+                    assertEquals("start " + start + ", length " + length + ", index " + i, expected, array[i]);
+                }
+            }
+        }
+    }
+
+    @Test
+    @SkipJVM
+    public void memoryFilledByAllocatorWithUnalignedBounds() {
+        if (!PlatformDetector.isLowLevel()) {
+            return;
+        }
+        for (int start = 0; start < 8; ++start) {
+            for (int length = 0; length <= 17; ++length) {
+                byte[] array = new byte[32];
+                Allocator.fill(Address.ofData(array).add(start), (byte) 0xA5, length);
+                for (int i = 0; i < array.length; ++i) {
+                    byte expected = i >= start && i < start + length ? (byte) 0xA5 : 0;
+                    assertEquals("start " + start + ", length " + length + ", index " + i, expected, array[i]);
+                }
+
+                Arrays.fill(array, (byte) 0x5A);
+                Allocator.fillZero(Address.ofData(array).add(start), length);
+                for (int i = 0; i < array.length; ++i) {
+                    byte expected = i >= start && i < start + length ? 0 : (byte) 0x5A;
+                    assertEquals("start " + start + ", length " + length + ", index " + i, expected, array[i]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void reusedMemoryZeroedAtUnalignedAddresses() {
+        Object[] padding = new Object[8];
+        for (int round = 0; round < 500; ++round) {
+            padding[round % padding.length] = new byte[round % 8];
+            for (int length = 0; length <= 17; ++length) {
+                byte[] garbage = new byte[length];
+                Arrays.fill(garbage, (byte) -1);
+                byte[] bytes = new byte[length];
+                for (int i = 0; i < length; ++i) {
+                    assertEquals("length " + length + ", index " + i, 0, bytes[i]);
+                }
+                short[] shorts = new short[length];
+                for (int i = 0; i < length; ++i) {
+                    assertEquals("length " + length + ", index " + i, 0, shorts[i]);
+                }
+            }
+        }
+    }
+}
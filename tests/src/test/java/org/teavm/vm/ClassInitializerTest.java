@@ -0,0 +1,71 @@
+/*
+ *  Copyright 2019 Alexey Andreev.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.teavm.vm;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.teavm.junit.TeaVMTestRunner;
+
+@RunWith(TeaVMTestRunner.class)
+public class ClassInitializerTest {
+    @Test
+    public void superclassInitializerSeesDefaultValueOfSubclassField() {
+        assertEquals(23, CircularDerived.value);
+        assertEquals(0, CircularBase.observed);
+    }
+
+    @Test
+    public void lastStoreWins() {
+        assertEquals(2, StoredTwice.value);
+        assertEquals("second", StoredTwice.text);
+    }
+
+    @Test
+    public void initializerWithConstantsOnly() {
+        assertEquals(3, ConstantsOnly.intValue);
+        assertEquals(4L, ConstantsOnly.longValue);
+        assertEquals(1.5f, ConstantsOnly.floatValue, 0f);
+        assertEquals(2.5, ConstantsOnly.doubleValue, 0.0);
+        assertEquals("foo", ConstantsOnly.stringValue);
+    }
+
+    static class CircularBase {
+        static int observed = CircularDerived.value;
+    }
+
+    static class CircularDerived extends CircularBase {
+        static int value = 23;
+    }
+
+    static class StoredTwice {
+        static int value = 1;
+        static String text = "first";
+
+        static {
+            value = 2;
+            text = "second";
+        }
+    }
+
+    static class ConstantsOnly {
+        static int intValue = 3;
+        static long longValue = 4L;
+        static float floatValue = 1.5f;
+        static double doubleValue = 2.5;
+        static String stringValue = "foo";
+    }
+}
@@ -16,12 +16,16 @@
 package org.teavm.vm;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.teavm.classlib.PlatformDetector;
 import org.teavm.junit.TeaVMTestRunner;
 
 @RunWith(TeaVMTestRunner.class)
 public class LongTest {
+    private static long zero;
+
     @Test
     public void longIntegersMultipied() {
         long a = id(1199747L);
@@ -56,7 +60,75 @@ public class LongTest {
         assertEquals(0, a / b);
     }
 
+    @Test
+    public void longNarrowedToInt() {
+        assertEquals(0, (int) id(Long.MIN_VALUE));
+        assertEquals(-1, (int) id(Long.MAX_VALUE));
+        assertEquals(-2147483648, (int) id(0x180000000L));
+        assertEquals(1, (int) id(-0xFFFFFFFFL));
+    }
+
+    @Test
+    public void doubleConvertedToLongSaturates() {
+        if (!hasJvmLongConversions()) {
+            return;
+        }
+        assertEquals(0L, (long) id(Double.NaN));
+        assertEquals(Long.MAX_VALUE, (long) id(Double.POSITIVE_INFINITY));
+        assertEquals(Long.MIN_VALUE, (long) id(Double.NEGATIVE_INFINITY));
+        assertEquals(Long.MAX_VALUE, (long) id(1E19));
+        assertEquals(Long.MIN_VALUE, (long) id(-1E19));
+        assertEquals(Long.MAX_VALUE, (long) id(9223372036854775807.0));
+        assertEquals(Long.MIN_VALUE, (long) id(-9223372036854775808.0));
+        assertEquals(-2L, (long) id(-2.9));
+        assertEquals(4503599627370497L, (long) id(4503599627370497.0));
+    }
+
+    @Test
+    public void shiftDistanceMasked() {
+        int distance = (int) id(65);
+        assertEquals(2L, 1L << distance);
+        assertEquals(Long.MIN_VALUE >> 1, Long.MIN_VALUE >> distance);
+        assertEquals(Long.MIN_VALUE >>> 1, Long.MIN_VALUE >>> distance);
+        distance = (int) id(64);
+        assertEquals(7L, 7L << distance);
+        assertEquals(-7L, -7L >> distance);
+        assertEquals(-7L, -7L >>> distance);
+        distance = (int) id(-1);
+        assertEquals(Long.MIN_VALUE, 1L << distance);
+        assertEquals(1L, Long.MIN_VALUE >>> distance);
+    }
+
+    @Test
+    public void divisionByZeroThrows() {
+        if (PlatformDetector.isLowLevel() || !hasJvmLongConversions()) {
+            // C and WebAssembly backends do not check divisor, neither does default JavaScript long emulation
+            return;
+        }
+        try {
+            long result = id(1) / zero;
+            fail("Division by zero produced " + result);
+        } catch (ArithmeticException e) {
+            // expected
+        }
+        try {
+            long result = id(1) % zero;
+            fail("Remainder by zero produced " + result);
+        } catch (ArithmeticException e) {
+            // expected
+        }
+    }
+
+    // Default JavaScript long emulation converts infinity to zero, BigInt representation saturates like JVM
+    private static boolean hasJvmLongConversions() {
+        return !PlatformDetector.isJavaScript() || (long) id(Double.POSITIVE_INFINITY) != 0;
+    }
+
     private static long id(long value) {
         return value;
     }
+
+    private static double id(double value) {
+        return value;
+    }
 }
@@ -0,0 +1,62 @@
+/*
+ *  Copyright 2019 Alexey Andreev.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.teavm.vm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.teavm.junit.TeaVMTestRunner;
+
+@RunWith(TeaVMTestRunner.class)
+public class StackTraceTest {
+    @Test
+    public void reportsEveryFrameOfRecursiveCall() {
+        StackTraceElement[] stackTrace;
+        try {
+            thrower(3);
+            throw new AssertionError("Exception expected");
+        } catch (IllegalStateException e) {
+            stackTrace = e.getStackTrace();
+        }
+        if (stackTrace.length == 0) {
+            // JavaScript backend does not collect stack traces unless asked to decode them
+            return;
+        }
+
+        int start = 0;
+        while (start < stackTrace.length && !stackTrace[start].getMethodName().equals("thrower")) {
+            ++start;
+        }
+        assertTrue("thrower frame not found", start < stackTrace.length);
+        for (int i = 0; i < 4; ++i) {
+            StackTraceElement element = stackTrace[start + i];
+            assertEquals(StackTraceTest.class.getName(), element.getClassName());
+            assertEquals("thrower", element.getMethodName());
+        }
+        StackTraceElement caller = stackTrace[start + 4];
+        assertEquals(StackTraceTest.class.getName(), caller.getClassName());
+        assertEquals("reportsEveryFrameOfRecursiveCall", caller.getMethodName());
+    }
+
+    private static void thrower(int depth) {
+        if (depth > 0) {
+            thrower(depth - 1);
+        } else {
+            throw new IllegalStateException();
+        }
+    }
+}
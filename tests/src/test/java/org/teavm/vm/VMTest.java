@@ -550,4 +550,31 @@ public class VMTest {
             array.wait(1);
         }
     }
+
+    @Test
+    public void objectsSurviveGarbageCollectionInInitializerOfConstructedClass() {
+        int[] kept = { 1, 2, 3 };
+        ClassWithAllocatingInitializer instance = new ClassWithAllocatingInitializer(23);
+        int[] other = { 4, 5, 6 };
+        assertEquals(23, instance.value);
+        assertEquals(6, kept[0] + kept[1] + kept[2]);
+        assertEquals(15, other[0] + other[1] + other[2]);
+        assertEquals(200000, ClassWithAllocatingInitializer.allocationCount);
+    }
+
+    static class ClassWithAllocatingInitializer {
+        static int allocationCount;
+        int value;
+
+        static {
+            for (int i = 0; i < 200000; ++i) {
+                Object[] garbage = new Object[16];
+                allocationCount += garbage.length / 16;
+            }
+        }
+
+        ClassWithAllocatingInitializer(int value) {
+            this.value = value;
+        }
+    }
 }
\ No newline at end of file
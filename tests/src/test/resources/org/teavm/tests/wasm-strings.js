@@ -0,0 +1,60 @@
+/*
+ *  Copyright 2019 Alexey Andreev.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+// Usage: node wasm-strings.js <runtime.js> <module.wasm> <inputs.json>
+// Passes each input (given as array of char codes) to exported echo function and prints char codes of
+// returned strings, then char codes of lines logged by the module. Char codes are used instead of text,
+// since output encoding would replace unpaired surrogates.
+"use strict";
+var fs = require("fs");
+var vm = require("vm");
+
+vm.runInThisContext(fs.readFileSync(process.argv[2], "utf8"));
+
+var logged = [];
+console.log = function(line) {
+    logged.push(line);
+};
+
+function toCharCodes(text) {
+    var codes = [];
+    for (var i = 0; i < text.length; ++i) {
+        codes.push(text.charCodeAt(i));
+    }
+    return codes.join(",");
+}
+
+var importObj = {};
+TeaVM.wasm.importDefaults(importObj);
+WebAssembly.instantiate(fs.readFileSync(process.argv[3]), importObj).then(function(resultObject) {
+    var instance = resultObject.instance;
+    importObj.teavm.logString.memory = instance.exports.memory;
+    var inputs = JSON.parse(fs.readFileSync(process.argv[4], "utf8"));
+    var results = inputs.map(function(codes) {
+        var text = "";
+        for (var i = 0; i < codes.length; ++i) {
+            text += String.fromCharCode(codes[i]);
+        }
+        var result = instance.exports.echo(TeaVM.wasm.encodeString(instance, text));
+        return TeaVM.wasm.decodeString(instance.exports.memory, result);
+    });
+    results.concat(logged).forEach(function(text) {
+        process.stdout.write(toCharCodes(text) + "\n");
+    });
+}).catch(function(error) {
+    process.stderr.write(error.stack + "\n");
+    process.exit(1);
+});
@@ -155,6 +155,22 @@ public final class TeaVMRunner {
                 .withLongOpt("no-longjmp")
                 .withDescription("Don't use setjmp/longjmp functions to emulate exceptions (C target)")
                 .create());
+        options.addOption(OptionBuilder
+                .withLongOpt("coarse-stack-traces")
+                .withDescription("Record one call site per method, so stack traces only point to methods (C target)")
+                .create());
+        options.addOption(OptionBuilder
+                .withLongOpt("long-as-bigint")
+                .withDescription("Represent long values as JavaScript BigInt (JavaScript target)")
+                .create());
+        options.addOption(OptionBuilder
+                .withLongOpt("wasm-bulk-memory")
+                .withDescription("Use bulk memory instructions to copy and fill memory (WebAssembly target)")
+                .create());
+        options.addOption(OptionBuilder
+                .withLongOpt("es-module")
+                .withDescription("Produce ES2015 module that exports entry points (JavaScript target)")
+                .create());
     }
 
     private TeaVMRunner(CommandLine commandLine) {
@@ -248,6 +264,12 @@ public final class TeaVMRunner {
                 printUsage();
             }
         }
+        if (commandLine.hasOption("long-as-bigint")) {
+            tool.setLongAsBigInt(true);
+        }
+        if (commandLine.hasOption("es-module")) {
+            tool.setModuleOutput(true);
+        }
     }
 
     private void parseDebugOptions() {
@@ -327,6 +349,9 @@ public final class TeaVMRunner {
                 printUsage();
             }
         }
+        if (commandLine.hasOption("wasm-bulk-memory")) {
+            tool.setBulkMemoryEnabled(true);
+        }
     }
 
     private void parseCOptions() {
@@ -336,6 +361,9 @@ public final class TeaVMRunner {
         if (commandLine.hasOption("heap-dump")) {
             tool.setHeapDump(true);
         }
+        if (commandLine.hasOption("coarse-stack-traces")) {
+            tool.setPreciseStackTraces(false);
+        }
     }
 
     private void parseHeap() {
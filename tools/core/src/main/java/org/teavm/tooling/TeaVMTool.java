@@ -108,6 +108,10 @@ public class TeaVMTool {
     private ReferenceCache referenceCache;
     private boolean longjmpSupported = true;
     private boolean heapDump;
+    private boolean moduleOutput;
+    private boolean bulkMemoryEnabled;
+    private boolean longAsBigInt;
+    private boolean preciseStackTraces = true;
 
     public File getTargetDirectory() {
         return targetDirectory;
@@ -261,6 +265,22 @@ public class TeaVMTool {
         this.heapDump = heapDump;
     }
 
+    public void setModuleOutput(boolean moduleOutput) {
+        this.moduleOutput = moduleOutput;
+    }
+
+    public void setBulkMemoryEnabled(boolean bulkMemoryEnabled) {
+        this.bulkMemoryEnabled = bulkMemoryEnabled;
+    }
+
+    public void setLongAsBigInt(boolean longAsBigInt) {
+        this.longAsBigInt = longAsBigInt;
+    }
+
+    public void setPreciseStackTraces(boolean preciseStackTraces) {
+        this.preciseStackTraces = preciseStackTraces;
+    }
+
     public void setProgressListener(TeaVMProgressListener progressListener) {
         this.progressListener = progressListener;
     }
@@ -317,6 +337,8 @@ public class TeaVMTool {
 
         debugEmitter = debugInformationGenerated || sourceMapsFileGenerated
                 ? new DebugInformationBuilder(referenceCache) : null;
+        javaScriptTarget.setLongAsBigInt(longAsBigInt);
+        javaScriptTarget.setModuleOutput(moduleOutput);
         javaScriptTarget.setDebugEmitter(debugEmitter);
 
         return javaScriptTarget;
@@ -330,6 +352,7 @@ public class TeaVMTool {
         webAssemblyTarget.setVersion(wasmVersion);
         webAssemblyTarget.setMinHeapSize(minHeapSize);
         webAssemblyTarget.setMaxHeapSize(maxHeapSize);
+        webAssemblyTarget.setBulkMemoryEnabled(bulkMemoryEnabled);
         webAssemblyTarget.setObfuscated(obfuscated);
         return webAssemblyTarget;
     }
@@ -341,6 +364,7 @@ public class TeaVMTool {
         cTarget.setLineNumbersGenerated(debugInformationGenerated);
         cTarget.setLongjmpUsed(longjmpSupported);
         cTarget.setHeapDump(heapDump);
+        cTarget.setPreciseStackTraces(preciseStackTraces);
         cTarget.setObfuscated(obfuscated);
         return cTarget;
     }
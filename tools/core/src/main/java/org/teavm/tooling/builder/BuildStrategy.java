@@ -82,5 +82,13 @@ public interface BuildStrategy {
 
     void setHeapDump(boolean heapDump);
 
+    void setModuleOutput(boolean moduleOutput);
+
+    void setBulkMemoryEnabled(boolean bulkMemoryEnabled);
+
+    void setLongAsBigInt(boolean longAsBigInt);
+
+    void setPreciseStackTraces(boolean preciseStackTraces);
+
     BuildResult build() throws BuildException;
 }
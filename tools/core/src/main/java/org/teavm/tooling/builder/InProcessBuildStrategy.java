@@ -65,6 +65,10 @@ public class InProcessBuildStrategy implements BuildStrategy {
     private final List<SourceFileProvider> sourceFileProviders = new ArrayList<>();
     private boolean longjmpSupported = true;
     private boolean heapDump;
+    private boolean moduleOutput;
+    private boolean bulkMemoryEnabled;
+    private boolean longAsBigInt;
+    private boolean preciseStackTraces = true;
     private TeaVMProgressListener progressListener;
     private Properties properties = new Properties();
     private TeaVMToolLog log = new EmptyTeaVMToolLog();
@@ -220,6 +224,26 @@ public class InProcessBuildStrategy implements BuildStrategy {
         this.heapDump = heapDump;
     }
 
+    @Override
+    public void setModuleOutput(boolean moduleOutput) {
+        this.moduleOutput = moduleOutput;
+    }
+
+    @Override
+    public void setBulkMemoryEnabled(boolean bulkMemoryEnabled) {
+        this.bulkMemoryEnabled = bulkMemoryEnabled;
+    }
+
+    @Override
+    public void setLongAsBigInt(boolean longAsBigInt) {
+        this.longAsBigInt = longAsBigInt;
+    }
+
+    @Override
+    public void setPreciseStackTraces(boolean preciseStackTraces) {
+        this.preciseStackTraces = preciseStackTraces;
+    }
+
     @Override
     public BuildResult build() throws BuildException {
         TeaVMTool tool = new TeaVMTool();
@@ -250,6 +274,10 @@ public class InProcessBuildStrategy implements BuildStrategy {
         tool.setMaxHeapSize(maxHeapSize);
         tool.setLongjmpSupported(longjmpSupported);
         tool.setHeapDump(heapDump);
+        tool.setModuleOutput(moduleOutput);
+        tool.setBulkMemoryEnabled(bulkMemoryEnabled);
+        tool.setLongAsBigInt(longAsBigInt);
+        tool.setPreciseStackTraces(preciseStackTraces);
 
         tool.getProperties().putAll(properties);
 
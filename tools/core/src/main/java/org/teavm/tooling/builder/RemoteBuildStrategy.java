@@ -195,6 +195,26 @@ public class RemoteBuildStrategy implements BuildStrategy {
         request.heapDump = heapDump;
     }
 
+    @Override
+    public void setModuleOutput(boolean moduleOutput) {
+        request.moduleOutput = moduleOutput;
+    }
+
+    @Override
+    public void setBulkMemoryEnabled(boolean bulkMemoryEnabled) {
+        request.bulkMemoryEnabled = bulkMemoryEnabled;
+    }
+
+    @Override
+    public void setLongAsBigInt(boolean longAsBigInt) {
+        request.longAsBigInt = longAsBigInt;
+    }
+
+    @Override
+    public void setPreciseStackTraces(boolean preciseStackTraces) {
+        request.preciseStackTraces = preciseStackTraces;
+    }
+
     @Override
     public BuildResult build() throws BuildException {
         RemoteBuildResponse response;
@@ -163,6 +163,10 @@ public class BuildDaemon extends UnicastRemoteObject implements RemoteBuildServi
         tool.setMaxHeapSize(request.maxHeapSize);
         tool.setLongjmpSupported(request.longjmpSupported);
         tool.setHeapDump(request.heapDump);
+        tool.setModuleOutput(request.moduleOutput);
+        tool.setBulkMemoryEnabled(request.bulkMemoryEnabled);
+        tool.setLongAsBigInt(request.longAsBigInt);
+        tool.setPreciseStackTraces(request.preciseStackTraces);
 
         for (String sourceDirectory : request.sourceDirectories) {
             tool.addSourceFileProvider(new DirectorySourceFileProvider(new File(sourceDirectory)));
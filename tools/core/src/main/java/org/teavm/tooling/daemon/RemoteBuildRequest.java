@@ -50,4 +50,8 @@ public class RemoteBuildRequest implements Serializable {
     public int maxHeapSize;
     public boolean longjmpSupported;
     public boolean heapDump;
+    public boolean moduleOutput;
+    public boolean bulkMemoryEnabled;
+    public boolean longAsBigInt;
+    public boolean preciseStackTraces = true;
 }
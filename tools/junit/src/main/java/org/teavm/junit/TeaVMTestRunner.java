@@ -100,10 +100,13 @@ public class TeaVMTestRunner extends Runner implements Filterable {
     private static final String THREAD_COUNT = "teavm.junit.threads";
     private static final String JS_ENABLED = "teavm.junit.js";
     static final String JS_DECODE_STACK = "teavm.junit.js.decodeStack";
+    private static final String JS_BIGINT = "teavm.junit.js.bigint";
     private static final String C_ENABLED = "teavm.junit.c";
     private static final String WASM_ENABLED = "teavm.junit.wasm";
+    private static final String WASM_BULK_MEMORY = "teavm.junit.wasm.bulkMemory";
     private static final String C_COMPILER = "teavm.junit.c.compiler";
     private static final String C_LINE_NUMBERS = "teavm.junit.c.lineNumbers";
+    private static final String C_COARSE_STACK_TRACES = "teavm.junit.c.coarseStackTraces";
     private static final String MINIFIED = "teavm.junit.minified";
     private static final String OPTIMIZED = "teavm.junit.optimized";
     private static final String FAST_ANALYSIS = "teavm.junit.fastAnalysis";
@@ -859,6 +862,9 @@ public class TeaVMTestRunner extends Runner implements Filterable {
             if (Boolean.getBoolean(OPTIMIZED)) {
                 configurations.add(TeaVMTestConfiguration.JS_OPTIMIZED);
             }
+            if (Boolean.getBoolean(JS_BIGINT)) {
+                configurations.add(TeaVMTestConfiguration.JS_BIGINT);
+            }
         }
         return configurations;
     }
@@ -870,6 +876,9 @@ public class TeaVMTestRunner extends Runner implements Filterable {
             if (Boolean.getBoolean(OPTIMIZED)) {
                 configurations.add(TeaVMTestConfiguration.WASM_OPTIMIZED);
             }
+            if (Boolean.getBoolean(WASM_BULK_MEMORY)) {
+                configurations.add(TeaVMTestConfiguration.WASM_BULK_MEMORY);
+            }
         }
         return configurations;
     }
@@ -881,6 +890,9 @@ public class TeaVMTestRunner extends Runner implements Filterable {
             if (Boolean.getBoolean(OPTIMIZED)) {
                 configurations.add(TeaVMTestConfiguration.C_OPTIMIZED);
             }
+            if (Boolean.getBoolean(C_COARSE_STACK_TRACES)) {
+                configurations.add(TeaVMTestConfiguration.C_COARSE_STACK_TRACES);
+            }
         }
         return configurations;
     }
@@ -158,6 +158,18 @@ public class TeaVMCompileMojo extends AbstractMojo {
     @Parameter(property = "teavm.heapDump", defaultValue = "false")
     private boolean heapDump;
 
+    @Parameter(property = "teavm.moduleOutput", defaultValue = "false")
+    private boolean moduleOutput;
+
+    @Parameter(property = "teavm.bulkMemoryEnabled", defaultValue = "false")
+    private boolean bulkMemoryEnabled;
+
+    @Parameter(property = "teavm.longAsBigInt", defaultValue = "false")
+    private boolean longAsBigInt;
+
+    @Parameter(property = "teavm.preciseStackTraces", defaultValue = "true")
+    private boolean preciseStackTraces;
+
     private void setupBuilder(BuildStrategy builder) throws MojoExecutionException {
         builder.setLog(new MavenTeaVMToolLog(getLog()));
         try {
@@ -293,6 +305,10 @@ public class TeaVMCompileMojo extends AbstractMojo {
             builder.setWasmVersion(wasmVersion);
             builder.setLongjmpSupported(longjmpSupported);
             builder.setHeapDump(heapDump);
+            builder.setModuleOutput(moduleOutput);
+            builder.setBulkMemoryEnabled(bulkMemoryEnabled);
+            builder.setLongAsBigInt(longAsBigInt);
+            builder.setPreciseStackTraces(preciseStackTraces);
             BuildResult result;
             result = builder.build();
             TeaVMProblemRenderer.describeProblems(result.getCallGraph(), result.getProblems(), toolLog);